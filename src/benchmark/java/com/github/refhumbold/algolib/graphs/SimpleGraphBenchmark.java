@@ -0,0 +1,83 @@
+package com.github.refhumbold.algolib.graphs;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+// Benchmarks: Structures of simple graphs built from many edges.
+public class SimpleGraphBenchmark
+{
+    private static final int[] SIZES = { 25000, 50000, 100000, 200000, 400000 };
+    private static final int EDGES_PER_VERTEX = 4;
+    private static final int REPEATS = 3;
+    // a quadratic construction is 16 times slower per edge on the largest size than the smallest,
+    // while cache and garbage collection effects alone stay well below this bound
+    private static final double MAX_SLOWDOWN = 5.0;
+
+    @Test
+    public void addEdgeBetween_WhenDirectedGraph_ThenTimePerEdgeDoesNotGrow()
+    {
+        assertLinearScaling("DirectedSimpleGraph", verticesCount -> {
+            DirectedSimpleGraph<Integer, Void, Void> graph = new DirectedSimpleGraph<>(
+                    IntStream.range(0, verticesCount).boxed().collect(Collectors.toList()));
+
+            addEdges(graph, verticesCount);
+            return graph;
+        });
+    }
+
+    @Test
+    public void addEdgeBetween_WhenUndirectedGraph_ThenTimePerEdgeDoesNotGrow()
+    {
+        assertLinearScaling("UndirectedSimpleGraph", verticesCount -> {
+            UndirectedSimpleGraph<Integer, Void, Void> graph = new UndirectedSimpleGraph<>(
+                    IntStream.range(0, verticesCount).boxed().collect(Collectors.toList()));
+
+            addEdges(graph, verticesCount);
+            return graph;
+        });
+    }
+
+    private static void addEdges(SimpleGraph<Integer, Void, Void> graph, int verticesCount)
+    {
+        for(int i = 0; i < verticesCount; ++i)
+            for(int j = 1; j <= EDGES_PER_VERTEX; ++j)
+                graph.addEdgeBetween(graph.getVertex(i),
+                        graph.getVertex((i + j * 7919) % verticesCount));
+    }
+
+    private static void assertLinearScaling(
+            String name, IntFunction<Graph<Integer, Void, Void>> builder)
+    {
+        double[] nanosPerEdge = new double[SIZES.length];
+
+        // warm-up run, so that compilation does not count to the smallest size
+        builder.apply(SIZES[0]);
+
+        for(int i = 0; i < SIZES.length; ++i)
+        {
+            long best = Long.MAX_VALUE;
+
+            for(int r = 0; r < REPEATS; ++r)
+            {
+                long start = System.nanoTime();
+                Graph<Integer, Void, Void> graph = builder.apply(SIZES[i]);
+
+                best = Math.min(best, System.nanoTime() - start);
+                Assertions.assertThat(graph.getEdgesCount())
+                          .isEqualTo(EDGES_PER_VERTEX * SIZES[i]);
+            }
+
+            nanosPerEdge[i] = (double)best / (EDGES_PER_VERTEX * SIZES[i]);
+            System.out.printf("%s: %d vertices, %d edges, %.1f ms, %.1f ns per edge%n", name,
+                    SIZES[i], EDGES_PER_VERTEX * SIZES[i], best / 1e6, nanosPerEdge[i]);
+        }
+
+        Assertions.assertThat(nanosPerEdge[SIZES.length - 1]
+                                      / Arrays.stream(nanosPerEdge).min().orElseThrow())
+                  .isLessThan(MAX_SLOWDOWN);
+    }
+}
@@ -0,0 +1,241 @@
+package com.github.refhumbold.algolib.graphs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * Structure of immutable directed graph stored in compressed sparse rows. Reversing in place is not
+ * supported, so reversed graphs are always new copies.
+ */
+public class CompactDirectedGraph<VertexId, VertexProperty, EdgeProperty>
+        extends CompactGraph<VertexId, VertexProperty, EdgeProperty>
+        implements DirectedGraph<VertexId, VertexProperty, EdgeProperty>
+{
+    private final int[] incomingOffsets;
+    private final int[] incomingSources;
+    // edge indices of the incoming edges, which are their slots in outgoing rows
+    private final int[] incomingEdges;
+
+    public CompactDirectedGraph(DirectedGraph<VertexId, VertexProperty, EdgeProperty> graph)
+    {
+        super(graph, layout(graph));
+        incomingOffsets = countIncoming(vertices.length, targets);
+        incomingSources = new int[targets.length];
+        incomingEdges = new int[targets.length];
+        fillIncoming(offsets, targets, incomingOffsets, incomingSources, incomingEdges);
+    }
+
+    CompactDirectedGraph(
+            CompactGraph<VertexId, VertexProperty, EdgeProperty> graph,
+            int[] offsets,
+            int[] targets,
+            List<EdgeProperty> edgeProperties)
+    {
+        super(graph, offsets, targets, edgeProperties);
+        incomingOffsets = countIncoming(vertices.length, targets);
+        incomingSources = new int[targets.length];
+        incomingEdges = new int[targets.length];
+        fillIncoming(offsets, targets, incomingOffsets, incomingSources, incomingEdges);
+    }
+
+    @Override
+    public Collection<Edge<VertexId>> getEdges()
+    {
+        List<Edge<VertexId>> edges = new ArrayList<>(targets.length);
+
+        for(int index = 0; index < vertices.length; ++index)
+            for(int slot = offsets[index]; slot < offsets[index + 1]; ++slot)
+                edges.add(slotEdge(index, slot));
+
+        return edges;
+    }
+
+    @Override
+    public int getInputDegree(Vertex<VertexId> vertex)
+    {
+        return getInputDegree(validateVertex(vertex));
+    }
+
+    @Override
+    public int getInputDegree(int vertex)
+    {
+        return incomingOffsets[vertex + 1] - incomingOffsets[vertex];
+    }
+
+    @Override
+    public Collection<Edge<VertexId>> getIncomingEdges(Vertex<VertexId> vertex)
+    {
+        int index = validateVertex(vertex);
+        List<Edge<VertexId>> edges = new ArrayList<>(getInputDegree(index));
+
+        for(int i = incomingOffsets[index]; i < incomingOffsets[index + 1]; ++i)
+            edges.add(new Edge<>(vertices[incomingSources[i]], vertex));
+
+        return edges;
+    }
+
+    @Override
+    public void forEachIncomingNeighbour(int vertex, IntConsumer action)
+    {
+        for(int i = incomingOffsets[vertex]; i < incomingOffsets[vertex + 1]; ++i)
+            action.accept(incomingSources[i]);
+    }
+
+    @Override
+    public int findIncomingNeighbour(int vertex, IntPredicate predicate)
+    {
+        for(int i = incomingOffsets[vertex]; i < incomingOffsets[vertex + 1]; ++i)
+            if(predicate.test(incomingSources[i]))
+                return incomingSources[i];
+
+        return -1;
+    }
+
+    /**
+     * Creates new cursor over incoming neighbours of vertices in this graph. Incoming neighbours
+     * are visited in the same order as in {@link #getIncomingEdges}, and edge indices are the
+     * same as in {@link #neighbourCursor()}.
+     * @return the cursor over incoming neighbours
+     */
+    public NeighbourCursor incomingCursor()
+    {
+        return new IncomingCursor();
+    }
+
+    /**
+     * Not supported, since this graph is immutable.
+     * @throws UnsupportedOperationException always, use {@link #reversedCopy()} instead
+     */
+    @Override
+    public void reverse()
+    {
+        throw new UnsupportedOperationException(
+                "Compact graph cannot be reversed in place, use reversedCopy instead");
+    }
+
+    @Override
+    public CompactDirectedGraph<VertexId, VertexProperty, EdgeProperty> reversedCopy()
+    {
+        List<EdgeProperty> reversedProperties = new ArrayList<>(incomingEdges.length);
+
+        for(int edge : incomingEdges)
+            reversedProperties.add(edgeProperties.get(edge));
+
+        // incoming rows are already sorted by source, so they become the new rows directly
+        return new CompactDirectedGraph<>(this, incomingOffsets, incomingSources,
+                reversedProperties);
+    }
+
+    @Override
+    Edge<VertexId> slotEdge(int vertexIndex, int slot)
+    {
+        return new Edge<>(vertices[vertexIndex], vertices[targets[slot]]);
+    }
+
+    @Override
+    int slotEdgeIndex(int slot)
+    {
+        return slot;
+    }
+
+    // Computes the layout of given directed graph with edges indexed by their slots.
+    private static <VertexId, VertexProperty, EdgeProperty> Layout<VertexId, EdgeProperty> layout(
+            DirectedGraph<VertexId, VertexProperty, EdgeProperty> graph)
+    {
+        Layout<VertexId, EdgeProperty> layout = new Layout<>(graph.getVertices());
+        List<Edge<VertexId>> edges = new ArrayList<>(graph.getEdges());
+        int[] degrees = new int[layout.vertices.length];
+        int[] arcSources = new int[edges.size()];
+        long[] arcs = new long[edges.size()];
+
+        for(int i = 0; i < edges.size(); ++i)
+        {
+            arcSources[i] = layout.indices.get(edges.get(i).source().id());
+            arcs[i] = arc(layout.indices.get(edges.get(i).destination().id()), i);
+            ++degrees[arcSources[i]];
+        }
+
+        layout.buildRows(degrees, arcSources, arcs);
+        layout.edgeProperties = new ArrayList<>(edges.size());
+
+        for(int edgeIndex : layout.slotEdges)
+            layout.edgeProperties.add(graph.getProperties().get(edges.get(edgeIndex)));
+
+        return layout;
+    }
+
+    // Counts offsets of the rows of incoming edges.
+    private static int[] countIncoming(int verticesCount, int[] targets)
+    {
+        int[] incomingOffsets = new int[verticesCount + 1];
+
+        for(int target : targets)
+            ++incomingOffsets[target + 1];
+
+        for(int index = 0; index < verticesCount; ++index)
+            incomingOffsets[index + 1] += incomingOffsets[index];
+
+        return incomingOffsets;
+    }
+
+    // Fills the rows of incoming edges, with sources of each row in ascending order.
+    private static void fillIncoming(
+            int[] offsets,
+            int[] targets,
+            int[] incomingOffsets,
+            int[] incomingSources,
+            int[] incomingEdges)
+    {
+        int verticesCount = offsets.length - 1;
+        int[] positions = Arrays.copyOf(incomingOffsets, verticesCount);
+
+        for(int index = 0; index < verticesCount; ++index)
+            for(int slot = offsets[index]; slot < offsets[index + 1]; ++slot)
+            {
+                int position = positions[targets[slot]]++;
+
+                incomingSources[position] = index;
+                incomingEdges[position] = slot;
+            }
+    }
+
+    private final class IncomingCursor
+            implements NeighbourCursor
+    {
+        private int position = 0;
+        private int end = 0;
+
+        @Override
+        public void reset(int vertex)
+        {
+            position = incomingOffsets[vertex];
+            end = incomingOffsets[vertex + 1];
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return position < end;
+        }
+
+        @Override
+        public int next()
+        {
+            if(position >= end)
+                throw new NoSuchElementException();
+
+            return incomingSources[position++];
+        }
+
+        @Override
+        public int edge()
+        {
+            return incomingEdges[position - 1];
+        }
+    }
+}
@@ -0,0 +1,389 @@
+package com.github.refhumbold.algolib.graphs;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import com.github.refhumbold.algolib.graphs.properties.WeightColumn;
+import com.github.refhumbold.algolib.graphs.properties.Weighted;
+
+/**
+ * Structure of immutable graph stored in compressed sparse rows. Vertices are numbered with dense
+ * indices and edges adjacent to each vertex are kept sorted by neighbour index in a single array.
+ * Vertices and edges never change after construction, while their properties can still be set.
+ * Adjacent edges of each vertex are listed in the same order as the neighbour cursor visits them.
+ */
+public abstract class CompactGraph<VertexId, VertexProperty, EdgeProperty>
+        implements Graph<VertexId, VertexProperty, EdgeProperty>, IntGraph
+{
+    final Vertex<VertexId>[] vertices;
+    final Map<VertexId, Integer> indices;
+    final List<VertexProperty> vertexProperties;
+    final List<EdgeProperty> edgeProperties;
+    final int[] offsets;
+    final int[] targets;
+    // cached weights of edges, dropped whenever edge properties change
+    WeightColumn weightColumn;
+    private final GraphProperties<VertexId, VertexProperty, EdgeProperty> properties =
+            new GraphProperties<>()
+            {
+                @Override
+                public VertexProperty get(Vertex<VertexId> vertex)
+                {
+                    return vertexProperties.get(validateVertex(vertex));
+                }
+
+                @Override
+                public void set(Vertex<VertexId> vertex, VertexProperty property)
+                {
+                    vertexProperties.set(validateVertex(vertex), property);
+                }
+
+                @Override
+                public EdgeProperty get(Edge<VertexId> edge)
+                {
+                    return edgeProperties.get(validateEdge(edge));
+                }
+
+                @Override
+                public void set(Edge<VertexId> edge, EdgeProperty property)
+                {
+                    edgeProperties.set(validateEdge(edge), property);
+                    weightColumn = null;
+                }
+            };
+
+    CompactGraph(
+            Graph<VertexId, VertexProperty, EdgeProperty> graph,
+            Layout<VertexId, EdgeProperty> layout)
+    {
+        vertices = layout.vertices;
+        indices = layout.indices;
+        vertexProperties = new ArrayList<>(vertices.length);
+        edgeProperties = layout.edgeProperties;
+        offsets = layout.offsets;
+        targets = layout.targets;
+
+        for(Vertex<VertexId> vertex : vertices)
+            vertexProperties.add(graph.getProperties().get(vertex));
+    }
+
+    CompactGraph(
+            CompactGraph<VertexId, VertexProperty, EdgeProperty> graph,
+            int[] offsets,
+            int[] targets,
+            List<EdgeProperty> edgeProperties)
+    {
+        vertices = graph.vertices;
+        indices = graph.indices;
+        vertexProperties = new ArrayList<>(graph.vertexProperties);
+        this.offsets = offsets;
+        this.targets = targets;
+        this.edgeProperties = edgeProperties;
+    }
+
+    @Override
+    public GraphProperties<VertexId, VertexProperty, EdgeProperty> getProperties()
+    {
+        return properties;
+    }
+
+    @Override
+    public int getVerticesCount()
+    {
+        return vertices.length;
+    }
+
+    @Override
+    public int getEdgesCount()
+    {
+        return edgeProperties.size();
+    }
+
+    @Override
+    public Collection<Vertex<VertexId>> getVertices()
+    {
+        return Collections.unmodifiableList(Arrays.asList(vertices));
+    }
+
+    @Override
+    public Vertex<VertexId> getVertex(VertexId vertexId)
+    {
+        Integer index = indices.get(vertexId);
+
+        return index == null ? null : vertices[index];
+    }
+
+    @Override
+    public Edge<VertexId> getEdge(VertexId sourceId, VertexId destinationId)
+    {
+        Integer sourceIndex = indices.get(sourceId);
+        Integer destinationIndex = indices.get(destinationId);
+
+        if(sourceIndex == null || destinationIndex == null)
+            return null;
+
+        int slot = findSlot(sourceIndex, destinationIndex);
+
+        return slot < 0 ? null : slotEdge(sourceIndex, slot);
+    }
+
+    @Override
+    public Collection<Vertex<VertexId>> getNeighbours(Vertex<VertexId> vertex)
+    {
+        int index = validateVertex(vertex);
+        List<Vertex<VertexId>> neighbours = new ArrayList<>(offsets[index + 1] - offsets[index]);
+
+        for(int slot = offsets[index]; slot < offsets[index + 1]; ++slot)
+            neighbours.add(vertices[targets[slot]]);
+
+        return neighbours;
+    }
+
+    @Override
+    public Collection<Edge<VertexId>> getAdjacentEdges(Vertex<VertexId> vertex)
+    {
+        int index = validateVertex(vertex);
+        List<Edge<VertexId>> edges = new ArrayList<>(offsets[index + 1] - offsets[index]);
+
+        for(int slot = offsets[index]; slot < offsets[index + 1]; ++slot)
+            edges.add(slotEdge(index, slot));
+
+        return edges;
+    }
+
+    @Override
+    public int getOutputDegree(Vertex<VertexId> vertex)
+    {
+        int index = validateVertex(vertex);
+
+        return offsets[index + 1] - offsets[index];
+    }
+
+    @Override
+    public int getOutputDegree(int vertex)
+    {
+        return offsets[vertex + 1] - offsets[vertex];
+    }
+
+    @Override
+    public void forEachNeighbour(int vertex, IntConsumer action)
+    {
+        for(int slot = offsets[vertex]; slot < offsets[vertex + 1]; ++slot)
+            action.accept(targets[slot]);
+    }
+
+    @Override
+    public int findNeighbour(int vertex, IntPredicate predicate)
+    {
+        for(int slot = offsets[vertex]; slot < offsets[vertex + 1]; ++slot)
+            if(predicate.test(targets[slot]))
+                return targets[slot];
+
+        return -1;
+    }
+
+    @Override
+    public NeighbourCursor neighbourCursor()
+    {
+        return new SlotCursor();
+    }
+
+    /**
+     * Gets the index of given vertex in this graph.
+     * @param vertex the vertex
+     * @return the index of the vertex, or {@code -1} if no such vertex
+     */
+    public int indexOf(Vertex<VertexId> vertex)
+    {
+        Integer index = indices.get(vertex.id());
+
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Gets the vertex with given index in this graph.
+     * @param index the vertex index
+     * @return the vertex with the index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public Vertex<VertexId> vertexAt(int index)
+    {
+        return vertices[index];
+    }
+
+    /**
+     * Gets the index of given edge in this graph.
+     * @param edge the edge
+     * @return the index of the edge, or {@code -1} if no such edge
+     */
+    public int indexOf(Edge<VertexId> edge)
+    {
+        Integer sourceIndex = indices.get(edge.source().id());
+        Integer destinationIndex = indices.get(edge.destination().id());
+
+        if(sourceIndex == null || destinationIndex == null)
+            return -1;
+
+        int slot = findSlot(sourceIndex, destinationIndex);
+
+        return slot < 0 || !slotEdge(sourceIndex, slot).equals(edge) ? -1 : slotEdgeIndex(slot);
+    }
+
+    /**
+     * Gets the weights of edges in this graph indexed as in {@link IntGraph}. The weights are read
+     * from edge properties once and cached until any edge property is set again.
+     * @return the column of edge weights
+     * @throws ClassCastException if edge properties are not {@link Weighted}
+     */
+    public WeightColumn getWeightColumn()
+    {
+        if(weightColumn == null)
+            weightColumn = WeightColumn.of(edgeProperties.size(),
+                    edge -> ((Weighted)edgeProperties.get(edge)).getWeight());
+
+        return weightColumn;
+    }
+
+    // Gets the edge stored in given slot of the row of given vertex.
+    abstract Edge<VertexId> slotEdge(int vertexIndex, int slot);
+
+    // Gets the index of the edge stored in given slot.
+    abstract int slotEdgeIndex(int slot);
+
+    // Searches for the slot of given neighbour in the row of given vertex.
+    int findSlot(int vertexIndex, int neighbourIndex)
+    {
+        int slot = Arrays.binarySearch(targets, offsets[vertexIndex], offsets[vertexIndex + 1],
+                neighbourIndex);
+
+        return slot < offsets[vertexIndex] ? -1 : slot;
+    }
+
+    // Packs an arc to given neighbour along the edge with given index.
+    static long arc(int neighbourIndex, int edgeIndex)
+    {
+        return (long)neighbourIndex << 32 | edgeIndex;
+    }
+
+    int validateVertex(Vertex<VertexId> vertex)
+    {
+        Integer index = indices.get(vertex.id());
+
+        if(index == null)
+            throw new IllegalArgumentException(
+                    "Vertex %s does not belong to this graph".formatted(vertex.toString()));
+
+        return index;
+    }
+
+    int validateEdge(Edge<VertexId> edge)
+    {
+        Integer sourceIndex = indices.get(edge.source().id());
+        Integer destinationIndex = indices.get(edge.destination().id());
+
+        if(sourceIndex == null)
+            throw new IllegalArgumentException(
+                    "Edge source %s does not belong to this graph".formatted(edge.source()));
+
+        if(destinationIndex == null)
+            throw new IllegalArgumentException(
+                    "Edge destination %s does not belong to this graph".formatted(
+                            edge.destination()));
+
+        int slot = findSlot(sourceIndex, destinationIndex);
+
+        if(slot < 0 || !slotEdge(sourceIndex, slot).equals(edge))
+            throw new IllegalArgumentException(
+                    "Edge %s does not belong to this graph".formatted(edge));
+
+        return slotEdgeIndex(slot);
+    }
+
+    // Arrays of a compact graph computed before the graph itself is constructed.
+    static final class Layout<VertexId, EdgeProperty>
+    {
+        final Vertex<VertexId>[] vertices;
+        final Map<VertexId, Integer> indices = new HashMap<>();
+        List<EdgeProperty> edgeProperties;
+        int[] offsets;
+        int[] targets;
+        // edge indices of the slots in rows
+        int[] slotEdges;
+        // source indices of edges in undirected graphs
+        int[] edgeSources;
+
+        @SuppressWarnings("unchecked")
+        Layout(Collection<Vertex<VertexId>> graphVertices)
+        {
+            vertices = (Vertex<VertexId>[])new Vertex<?>[graphVertices.size()];
+
+            for(Vertex<VertexId> vertex : graphVertices)
+            {
+                vertices[indices.size()] = vertex;
+                indices.put(vertex.id(), indices.size());
+            }
+        }
+
+        // Fills rows with given arcs sorted by neighbour along with edge indices of the slots.
+        void buildRows(int[] degrees, int[] arcSources, long[] arcs)
+        {
+            long[] rows = new long[arcs.length];
+
+            offsets = new int[vertices.length + 1];
+            targets = new int[arcs.length];
+            slotEdges = new int[arcs.length];
+
+            for(int i = 0; i < vertices.length; ++i)
+                offsets[i + 1] = offsets[i] + degrees[i];
+
+            int[] positions = Arrays.copyOf(offsets, vertices.length);
+
+            for(int i = 0; i < arcs.length; ++i)
+                rows[positions[arcSources[i]]++] = arcs[i];
+
+            for(int i = 0; i < vertices.length; ++i)
+                Arrays.sort(rows, offsets[i], offsets[i + 1]);
+
+            for(int slot = 0; slot < rows.length; ++slot)
+            {
+                targets[slot] = (int)(rows[slot] >>> 32);
+                slotEdges[slot] = (int)rows[slot];
+            }
+        }
+    }
+
+    private final class SlotCursor
+            implements NeighbourCursor
+    {
+        private int slot = 0;
+        private int end = 0;
+
+        @Override
+        public void reset(int vertex)
+        {
+            slot = offsets[vertex];
+            end = offsets[vertex + 1];
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return slot < end;
+        }
+
+        @Override
+        public int next()
+        {
+            if(slot >= end)
+                throw new NoSuchElementException();
+
+            return targets[slot++];
+        }
+
+        @Override
+        public int edge()
+        {
+            return slotEdgeIndex(slot - 1);
+        }
+    }
+}
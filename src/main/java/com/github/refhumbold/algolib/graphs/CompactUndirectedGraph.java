@@ -0,0 +1,132 @@
+package com.github.refhumbold.algolib.graphs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/** Structure of immutable undirected graph stored in compressed sparse rows. */
+public class CompactUndirectedGraph<VertexId, VertexProperty, EdgeProperty>
+        extends CompactGraph<VertexId, VertexProperty, EdgeProperty>
+        implements UndirectedGraph<VertexId, VertexProperty, EdgeProperty>
+{
+    private final int[] slotEdges;
+    private final int[] edgeSources;
+
+    public CompactUndirectedGraph(UndirectedGraph<VertexId, VertexProperty, EdgeProperty> graph)
+    {
+        this(graph, layout(graph));
+    }
+
+    private CompactUndirectedGraph(
+            UndirectedGraph<VertexId, VertexProperty, EdgeProperty> graph,
+            Layout<VertexId, EdgeProperty> layout)
+    {
+        super(graph, layout);
+        slotEdges = layout.slotEdges;
+        edgeSources = layout.edgeSources;
+    }
+
+    @Override
+    public Collection<Edge<VertexId>> getEdges()
+    {
+        List<Edge<VertexId>> edges = new ArrayList<>(edgeSources.length);
+
+        for(int index = 0; index < vertices.length; ++index)
+            for(int slot = offsets[index]; slot < offsets[index + 1]; ++slot)
+                if(edgeSources[slotEdges[slot]] == index)
+                    edges.add(slotEdge(index, slot));
+
+        return edges;
+    }
+
+    @Override
+    public int getInputDegree(Vertex<VertexId> vertex)
+    {
+        return getOutputDegree(vertex);
+    }
+
+    @Override
+    public int getInputDegree(int vertex)
+    {
+        return getOutputDegree(vertex);
+    }
+
+    @Override
+    public void forEachIncomingNeighbour(int vertex, IntConsumer action)
+    {
+        forEachNeighbour(vertex, action);
+    }
+
+    @Override
+    public int findIncomingNeighbour(int vertex, IntPredicate predicate)
+    {
+        return findNeighbour(vertex, predicate);
+    }
+
+    @Override
+    public CompactDirectedGraph<VertexId, VertexProperty, EdgeProperty> asDirected()
+    {
+        List<EdgeProperty> arcProperties = new ArrayList<>(slotEdges.length);
+
+        for(int edgeIndex : slotEdges)
+            arcProperties.add(edgeProperties.get(edgeIndex));
+
+        return new CompactDirectedGraph<>(this, offsets, targets, arcProperties);
+    }
+
+    @Override
+    Edge<VertexId> slotEdge(int vertexIndex, int slot)
+    {
+        return edgeSources[slotEdges[slot]] == vertexIndex
+               ? new Edge<>(vertices[vertexIndex], vertices[targets[slot]])
+               : new Edge<>(vertices[targets[slot]], vertices[vertexIndex]);
+    }
+
+    @Override
+    int slotEdgeIndex(int slot)
+    {
+        return slotEdges[slot];
+    }
+
+    // Computes the layout of given undirected graph with edges indexed in order of the graph.
+    private static <VertexId, VertexProperty, EdgeProperty> Layout<VertexId, EdgeProperty> layout(
+            UndirectedGraph<VertexId, VertexProperty, EdgeProperty> graph)
+    {
+        Layout<VertexId, EdgeProperty> layout = new Layout<>(graph.getVertices());
+        List<Edge<VertexId>> edges = new ArrayList<>(graph.getEdges());
+        int[] degrees = new int[layout.vertices.length];
+        int[] arcSources = new int[2 * edges.size()];
+        long[] arcs = new long[2 * edges.size()];
+        int arcsCount = 0;
+
+        layout.edgeSources = new int[edges.size()];
+        layout.edgeProperties = new ArrayList<>(edges.size());
+
+        for(int i = 0; i < edges.size(); ++i)
+        {
+            int sourceIndex = layout.indices.get(edges.get(i).source().id());
+            int destinationIndex = layout.indices.get(edges.get(i).destination().id());
+
+            layout.edgeSources[i] = sourceIndex;
+            layout.edgeProperties.add(graph.getProperties().get(edges.get(i)));
+            arcSources[arcsCount] = sourceIndex;
+            arcs[arcsCount] = arc(destinationIndex, i);
+            ++arcsCount;
+            ++degrees[sourceIndex];
+
+            if(sourceIndex != destinationIndex)
+            {
+                arcSources[arcsCount] = destinationIndex;
+                arcs[arcsCount] = arc(sourceIndex, i);
+                ++arcsCount;
+                ++degrees[destinationIndex];
+            }
+        }
+
+        layout.buildRows(degrees, arcSources, Arrays.copyOf(arcs, arcsCount));
+        return layout;
+    }
+}
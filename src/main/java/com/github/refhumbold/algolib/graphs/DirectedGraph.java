@@ -1,9 +1,18 @@
 package com.github.refhumbold.algolib.graphs;
 
+import java.util.Collection;
+
 /** Structure of directed graph. */
 public interface DirectedGraph<VertexId, VertexProperty, EdgeProperty>
         extends Graph<VertexId, VertexProperty, EdgeProperty>
 {
+    /**
+     * Gets the incoming edges of given vertex.
+     * @param vertex the vertex from this graph
+     * @return the edges with the vertex as destination
+     */
+    Collection<Edge<VertexId>> getIncomingEdges(Vertex<VertexId> vertex);
+
     /** Reverses directions of all edges in this graph. */
     void reverse();
 
@@ -12,4 +21,14 @@ public interface DirectedGraph<VertexId, VertexProperty, EdgeProperty>
      * @return the copy of the graph with reversed directions of all edges
      */
     DirectedGraph<VertexId, VertexProperty, EdgeProperty> reversedCopy();
+
+    /**
+     * Returns reversed view of this graph. The view shares vertices, edges and properties with this
+     * graph, so no data is copied.
+     * @return the view of the graph with reversed directions of all edges
+     */
+    default DirectedGraph<VertexId, VertexProperty, EdgeProperty> reversedView()
+    {
+        return new ReversedGraphView<>(this);
+    }
 }
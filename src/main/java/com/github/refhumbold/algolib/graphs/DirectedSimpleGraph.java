@@ -1,7 +1,6 @@
 package com.github.refhumbold.algolib.graphs;
 
 import java.util.Collection;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 /** Structure of directed simple graph. */
@@ -22,7 +21,7 @@ public class DirectedSimpleGraph<VertexId, VertexProperty, EdgeProperty>
     @Override
     public int getEdgesCount()
     {
-        return representation.getEdgesSet().mapToInt(Set::size).sum();
+        return representation.getEdgesSet().mapToInt(Collection::size).sum();
     }
 
     @Override
@@ -34,18 +33,19 @@ public class DirectedSimpleGraph<VertexId, VertexProperty, EdgeProperty>
     @Override
     public int getOutputDegree(Vertex<VertexId> vertex)
     {
-        return representation.getAdjacentEdges(vertex).mapToInt(edge -> 1).sum();
+        return representation.getOutputDegree(vertex);
     }
 
     @Override
     public int getInputDegree(Vertex<VertexId> vertex)
     {
-        return representation.getEdgesSet()
-                             .flatMap(edges -> edges.stream()
-                                                    .filter(edge -> edge.destination()
-                                                                        .equals(vertex)))
-                             .mapToInt(edge -> 1)
-                             .sum();
+        return representation.getInputDegree(vertex);
+    }
+
+    @Override
+    public Collection<Edge<VertexId>> getIncomingEdges(Vertex<VertexId> vertex)
+    {
+        return representation.getIncomingEdges(vertex).collect(Collectors.toSet());
     }
 
     @Override
@@ -54,7 +54,7 @@ public class DirectedSimpleGraph<VertexId, VertexProperty, EdgeProperty>
         if(getEdge(edge.source(), edge.destination()) != null)
             throw new IllegalArgumentException("Edge %s already exists".formatted(edge));
 
-        representation.addEdgeToSource(edge);
+        representation.addDirectedEdge(edge);
         representation.setProperty(edge, property);
         return edge;
     }
@@ -72,7 +72,7 @@ public class DirectedSimpleGraph<VertexId, VertexProperty, EdgeProperty>
         representation.getEdges().forEach(edge -> {
             Edge<VertexId> newEdge = edge.reversed();
 
-            newRepresentation.addEdgeToSource(newEdge);
+            newRepresentation.addDirectedEdge(newEdge);
             newRepresentation.setProperty(newEdge, representation.getProperty(edge));
         });
         representation = newRepresentation;
@@ -2,14 +2,17 @@ package com.github.refhumbold.algolib.graphs;
 
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 import java.util.stream.Stream;
 
 class GraphRepresentation<VertexId, VertexProperty, EdgeProperty>
 {
-    private final Map<Vertex<VertexId>, Set<Edge<VertexId>>> graphMap = new HashMap<>();
+    private final Map<Vertex<VertexId>, Map<Vertex<VertexId>, Edge<VertexId>>> graphMap =
+            new HashMap<>();
+    // incoming edges of vertices, keyed by source; filled only for directed edges
+    private final Map<Vertex<VertexId>, Map<Vertex<VertexId>, Edge<VertexId>>> incomingMap =
+            new HashMap<>();
+    private final Map<VertexId, Vertex<VertexId>> vertexIds = new HashMap<>();
     private final Map<Vertex<VertexId>, VertexProperty> vertexProperties = new HashMap<>();
     private final Map<Edge<VertexId>, EdgeProperty> edgeProperties = new HashMap<>();
 
@@ -19,7 +22,7 @@ class GraphRepresentation<VertexId, VertexProperty, EdgeProperty>
 
     GraphRepresentation(Collection<VertexId> vertexIds)
     {
-        vertexIds.forEach(vertexId -> graphMap.put(new Vertex<>(vertexId), new HashSet<>()));
+        vertexIds.forEach(vertexId -> addVertex(new Vertex<>(vertexId)));
     }
 
     Stream<Vertex<VertexId>> getVertices()
@@ -29,12 +32,12 @@ class GraphRepresentation<VertexId, VertexProperty, EdgeProperty>
 
     Stream<Edge<VertexId>> getEdges()
     {
-        return graphMap.values().stream().flatMap(Collection::stream);
+        return graphMap.values().stream().flatMap(edges -> edges.values().stream());
     }
 
-    Stream<Set<Edge<VertexId>>> getEdgesSet()
+    Stream<Collection<Edge<VertexId>>> getEdgesSet()
     {
-        return graphMap.values().stream();
+        return graphMap.values().stream().map(Map::values);
     }
 
     int size()
@@ -44,32 +47,42 @@ class GraphRepresentation<VertexId, VertexProperty, EdgeProperty>
 
     Vertex<VertexId> getVertex(VertexId vertexId)
     {
-        return graphMap.keySet()
-                       .stream()
-                       .filter(v -> v.id().equals(vertexId))
-                       .findFirst()
-                       .orElse(null);
+        return vertexIds.get(vertexId);
     }
 
     Edge<VertexId> getEdge(VertexId sourceId, VertexId destinationId)
     {
-        return graphMap.entrySet()
-                       .stream()
-                       .filter(entry -> entry.getKey().id().equals(sourceId))
-                       .findFirst()
-                       .flatMap(entry -> entry.getValue()
-                                              .stream()
-                                              .filter(edge -> edge.getNeighbour(entry.getKey())
-                                                                  .id()
-                                                                  .equals(destinationId))
-                                              .findFirst())
-                       .orElse(null);
+        Vertex<VertexId> source = vertexIds.get(sourceId);
+        Vertex<VertexId> destination = vertexIds.get(destinationId);
+
+        if(source == null || destination == null)
+            return null;
+
+        return graphMap.get(source).get(destination);
     }
 
     Stream<Edge<VertexId>> getAdjacentEdges(Vertex<VertexId> vertex)
     {
         validateVertex(vertex);
-        return graphMap.get(vertex).stream();
+        return graphMap.get(vertex).values().stream();
+    }
+
+    Stream<Edge<VertexId>> getIncomingEdges(Vertex<VertexId> vertex)
+    {
+        validateVertex(vertex);
+        return incomingMap.getOrDefault(vertex, Map.of()).values().stream();
+    }
+
+    int getOutputDegree(Vertex<VertexId> vertex)
+    {
+        validateVertex(vertex);
+        return graphMap.get(vertex).size();
+    }
+
+    int getInputDegree(Vertex<VertexId> vertex)
+    {
+        validateVertex(vertex);
+        return incomingMap.getOrDefault(vertex, Map.of()).size();
     }
 
     VertexProperty getProperty(Vertex<VertexId> vertex)
@@ -98,21 +111,34 @@ class GraphRepresentation<VertexId, VertexProperty, EdgeProperty>
 
     boolean addVertex(Vertex<VertexId> vertex)
     {
-        Set<Edge<VertexId>> edges = graphMap.putIfAbsent(vertex, new HashSet<>());
+        Map<Vertex<VertexId>, Edge<VertexId>> edges =
+                graphMap.putIfAbsent(vertex, new HashMap<>());
+
+        if(edges != null)
+            return false;
 
-        return edges == null;
+        vertexIds.put(vertex.id(), vertex);
+        return true;
+    }
+
+    void addDirectedEdge(Edge<VertexId> edge)
+    {
+        validateEdgeVertices(edge);
+        graphMap.get(edge.source()).put(edge.destination(), edge);
+        incomingMap.computeIfAbsent(edge.destination(), vertex -> new HashMap<>())
+                   .put(edge.source(), edge);
     }
 
     void addEdgeToSource(Edge<VertexId> edge)
     {
         validateEdgeVertices(edge);
-        graphMap.get(edge.source()).add(edge);
+        graphMap.get(edge.source()).put(edge.destination(), edge);
     }
 
     void addEdgeToDestination(Edge<VertexId> edge)
     {
         validateEdgeVertices(edge);
-        graphMap.get(edge.destination()).add(edge);
+        graphMap.get(edge.destination()).put(edge.source(), edge);
     }
 
     private void validateVertex(Vertex<VertexId> vertex)
@@ -138,8 +164,8 @@ class GraphRepresentation<VertexId, VertexProperty, EdgeProperty>
     {
         validateEdgeVertices(edge);
 
-        if(!graphMap.get(edge.source()).contains(edge) && !graphMap.get(edge.destination())
-                                                                   .contains(edge))
+        if(!edge.equals(graphMap.get(edge.source()).get(edge.destination())) && !edge.equals(
+                graphMap.get(edge.destination()).get(edge.source())))
             throw new IllegalArgumentException(
                     "Edge %s does not belong to this graph".formatted(edge));
     }
@@ -0,0 +1,120 @@
+package com.github.refhumbold.algolib.graphs;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/** Structure of graph with vertices and edges identified by consecutive indices from zero. */
+public interface IntGraph
+{
+    /**
+     * Gets the number of vertices in this graph.
+     * @return the number of vertices
+     */
+    int getVerticesCount();
+
+    /**
+     * Gets the number of edges in this graph.
+     * @return the number of edges
+     */
+    int getEdgesCount();
+
+    /**
+     * Gets the output degree of given vertex.
+     * @param vertex the vertex index
+     * @return the output degree of the vertex
+     */
+    int getOutputDegree(int vertex);
+
+    /**
+     * Gets the input degree of given vertex.
+     * @param vertex the vertex index
+     * @return the input degree of the vertex
+     */
+    int getInputDegree(int vertex);
+
+    /**
+     * Performs given action for each neighbour of given vertex.
+     * @param vertex the vertex index
+     * @param action the action for indices of neighbouring vertices
+     */
+    void forEachNeighbour(int vertex, IntConsumer action);
+
+    /**
+     * Performs given action for each vertex with an edge to given vertex. In undirected graphs these
+     * are the same as neighbours.
+     * @param vertex the vertex index
+     * @param action the action for indices of preceding vertices
+     */
+    void forEachIncomingNeighbour(int vertex, IntConsumer action);
+
+    /**
+     * Finds the first neighbour of given vertex that satisfies given predicate.
+     * @param vertex the vertex index
+     * @param predicate the predicate for indices of neighbouring vertices
+     * @return the index of the neighbour, or {@code -1} if no such neighbour
+     */
+    default int findNeighbour(int vertex, IntPredicate predicate)
+    {
+        int[] found = {-1};
+
+        forEachNeighbour(vertex, neighbour -> {
+            if(found[0] < 0 && predicate.test(neighbour))
+                found[0] = neighbour;
+        });
+
+        return found[0];
+    }
+
+    /**
+     * Finds the first vertex with an edge to given vertex that satisfies given predicate.
+     * @param vertex the vertex index
+     * @param predicate the predicate for indices of preceding vertices
+     * @return the index of the preceding vertex, or {@code -1} if no such vertex
+     */
+    default int findIncomingNeighbour(int vertex, IntPredicate predicate)
+    {
+        int[] found = {-1};
+
+        forEachIncomingNeighbour(vertex, neighbour -> {
+            if(found[0] < 0 && predicate.test(neighbour))
+                found[0] = neighbour;
+        });
+
+        return found[0];
+    }
+
+    /**
+     * Creates new cursor over neighbours of vertices in this graph. The cursor can be reused for
+     * many vertices without allocating.
+     * @return the cursor over neighbours
+     */
+    NeighbourCursor neighbourCursor();
+
+    interface NeighbourCursor
+    {
+        /**
+         * Moves this cursor before the first neighbour of given vertex.
+         * @param vertex the vertex index
+         */
+        void reset(int vertex);
+
+        /**
+         * Checks whether current vertex has any more neighbours.
+         * @return {@code true} if there is next neighbour, otherwise {@code false}
+         */
+        boolean hasNext();
+
+        /**
+         * Moves this cursor to the next neighbour of current vertex.
+         * @return the index of the next neighbour
+         */
+        int next();
+
+        /**
+         * Gets the index of the edge leading to the neighbour returned by last call to {@link
+         * #next()}.
+         * @return the edge index
+         */
+        int edge();
+    }
+}
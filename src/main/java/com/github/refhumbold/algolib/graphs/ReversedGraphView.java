@@ -0,0 +1,153 @@
+package com.github.refhumbold.algolib.graphs;
+
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * Structure of directed graph with reversed edges backed by another directed graph. Nothing is
+ * copied, so changes in the original graph are visible through the view and vice versa.
+ */
+class ReversedGraphView<VertexId, VertexProperty, EdgeProperty>
+        implements DirectedGraph<VertexId, VertexProperty, EdgeProperty>
+{
+    private final DirectedGraph<VertexId, VertexProperty, EdgeProperty> graph;
+    private final GraphProperties<VertexId, VertexProperty, EdgeProperty> properties =
+            new GraphProperties<>()
+            {
+                @Override
+                public VertexProperty get(Vertex<VertexId> vertex)
+                {
+                    return graph.getProperties().get(vertex);
+                }
+
+                @Override
+                public void set(Vertex<VertexId> vertex, VertexProperty property)
+                {
+                    graph.getProperties().set(vertex, property);
+                }
+
+                @Override
+                public EdgeProperty get(Edge<VertexId> edge)
+                {
+                    return graph.getProperties().get(edge.reversed());
+                }
+
+                @Override
+                public void set(Edge<VertexId> edge, EdgeProperty property)
+                {
+                    graph.getProperties().set(edge.reversed(), property);
+                }
+            };
+
+    ReversedGraphView(DirectedGraph<VertexId, VertexProperty, EdgeProperty> graph)
+    {
+        this.graph = graph;
+    }
+
+    @Override
+    public GraphProperties<VertexId, VertexProperty, EdgeProperty> getProperties()
+    {
+        return properties;
+    }
+
+    @Override
+    public int getVerticesCount()
+    {
+        return graph.getVerticesCount();
+    }
+
+    @Override
+    public int getEdgesCount()
+    {
+        return graph.getEdgesCount();
+    }
+
+    @Override
+    public Collection<Vertex<VertexId>> getVertices()
+    {
+        return graph.getVertices();
+    }
+
+    @Override
+    public Collection<Edge<VertexId>> getEdges()
+    {
+        return graph.getEdges().stream().map(Edge::reversed).collect(Collectors.toList());
+    }
+
+    @Override
+    public Vertex<VertexId> getVertex(VertexId vertexId)
+    {
+        return graph.getVertex(vertexId);
+    }
+
+    @Override
+    public Edge<VertexId> getEdge(VertexId sourceId, VertexId destinationId)
+    {
+        Edge<VertexId> edge = graph.getEdge(destinationId, sourceId);
+
+        return edge == null ? null : edge.reversed();
+    }
+
+    @Override
+    public Collection<Vertex<VertexId>> getNeighbours(Vertex<VertexId> vertex)
+    {
+        return graph.getIncomingEdges(vertex)
+                    .stream()
+                    .map(Edge::source)
+                    .collect(Collectors.toList());
+    }
+
+    @Override
+    public Collection<Edge<VertexId>> getAdjacentEdges(Vertex<VertexId> vertex)
+    {
+        return graph.getIncomingEdges(vertex)
+                    .stream()
+                    .map(Edge::reversed)
+                    .collect(Collectors.toList());
+    }
+
+    @Override
+    public Collection<Edge<VertexId>> getIncomingEdges(Vertex<VertexId> vertex)
+    {
+        return graph.getAdjacentEdges(vertex)
+                    .stream()
+                    .map(Edge::reversed)
+                    .collect(Collectors.toList());
+    }
+
+    @Override
+    public int getOutputDegree(Vertex<VertexId> vertex)
+    {
+        return graph.getInputDegree(vertex);
+    }
+
+    @Override
+    public int getInputDegree(Vertex<VertexId> vertex)
+    {
+        return graph.getOutputDegree(vertex);
+    }
+
+    @Override
+    public void reverse()
+    {
+        graph.reverse();
+    }
+
+    @Override
+    public DirectedGraph<VertexId, VertexProperty, EdgeProperty> reversedCopy()
+    {
+        DirectedSimpleGraph<VertexId, VertexProperty, EdgeProperty> copy =
+                new DirectedSimpleGraph<>(
+                        getVertices().stream().map(Vertex::id).collect(Collectors.toList()));
+
+        getVertices().forEach(vertex -> copy.getProperties().set(vertex, properties.get(vertex)));
+        graph.getEdges().forEach(edge -> copy.addEdge(edge, graph.getProperties().get(edge)));
+        return copy;
+    }
+
+    @Override
+    public DirectedGraph<VertexId, VertexProperty, EdgeProperty> reversedView()
+    {
+        return graph;
+    }
+}
@@ -0,0 +1,169 @@
+package com.github.refhumbold.algolib.graphs;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Structure of directed graph backed by an undirected graph, with each undirected edge seen in both
+ * directions. Nothing is copied, so changes in the original graph are visible through the view and
+ * vice versa.
+ */
+class SymmetricGraphView<VertexId, VertexProperty, EdgeProperty>
+        implements DirectedGraph<VertexId, VertexProperty, EdgeProperty>
+{
+    private final UndirectedGraph<VertexId, VertexProperty, EdgeProperty> graph;
+    private final GraphProperties<VertexId, VertexProperty, EdgeProperty> properties =
+            new GraphProperties<>()
+            {
+                @Override
+                public VertexProperty get(Vertex<VertexId> vertex)
+                {
+                    return graph.getProperties().get(vertex);
+                }
+
+                @Override
+                public void set(Vertex<VertexId> vertex, VertexProperty property)
+                {
+                    graph.getProperties().set(vertex, property);
+                }
+
+                @Override
+                public EdgeProperty get(Edge<VertexId> edge)
+                {
+                    return graph.getProperties().get(undirectedEdge(edge));
+                }
+
+                @Override
+                public void set(Edge<VertexId> edge, EdgeProperty property)
+                {
+                    graph.getProperties().set(undirectedEdge(edge), property);
+                }
+            };
+
+    SymmetricGraphView(UndirectedGraph<VertexId, VertexProperty, EdgeProperty> graph)
+    {
+        this.graph = graph;
+    }
+
+    @Override
+    public GraphProperties<VertexId, VertexProperty, EdgeProperty> getProperties()
+    {
+        return properties;
+    }
+
+    @Override
+    public int getVerticesCount()
+    {
+        return graph.getVerticesCount();
+    }
+
+    @Override
+    public int getEdgesCount()
+    {
+        return graph.getVertices().stream().mapToInt(graph::getOutputDegree).sum();
+    }
+
+    @Override
+    public Collection<Vertex<VertexId>> getVertices()
+    {
+        return graph.getVertices();
+    }
+
+    @Override
+    public Collection<Edge<VertexId>> getEdges()
+    {
+        List<Edge<VertexId>> edges = new ArrayList<>();
+
+        for(Edge<VertexId> edge : graph.getEdges())
+        {
+            edges.add(edge);
+
+            if(!edge.source().equals(edge.destination()))
+                edges.add(edge.reversed());
+        }
+
+        return edges;
+    }
+
+    @Override
+    public Vertex<VertexId> getVertex(VertexId vertexId)
+    {
+        return graph.getVertex(vertexId);
+    }
+
+    @Override
+    public Edge<VertexId> getEdge(VertexId sourceId, VertexId destinationId)
+    {
+        Edge<VertexId> edge = graph.getEdge(sourceId, destinationId);
+
+        if(edge == null)
+            return null;
+
+        return edge.source().id().equals(sourceId) ? edge : edge.reversed();
+    }
+
+    @Override
+    public Collection<Vertex<VertexId>> getNeighbours(Vertex<VertexId> vertex)
+    {
+        return graph.getNeighbours(vertex);
+    }
+
+    @Override
+    public Collection<Edge<VertexId>> getAdjacentEdges(Vertex<VertexId> vertex)
+    {
+        return graph.getAdjacentEdges(vertex)
+                    .stream()
+                    .map(edge -> edge.source().equals(vertex) ? edge : edge.reversed())
+                    .collect(Collectors.toList());
+    }
+
+    @Override
+    public Collection<Edge<VertexId>> getIncomingEdges(Vertex<VertexId> vertex)
+    {
+        return graph.getAdjacentEdges(vertex)
+                    .stream()
+                    .map(edge -> edge.destination().equals(vertex) ? edge : edge.reversed())
+                    .collect(Collectors.toList());
+    }
+
+    @Override
+    public int getOutputDegree(Vertex<VertexId> vertex)
+    {
+        return graph.getOutputDegree(vertex);
+    }
+
+    @Override
+    public int getInputDegree(Vertex<VertexId> vertex)
+    {
+        return graph.getInputDegree(vertex);
+    }
+
+    /** Does nothing, since this graph contains each edge in both directions. */
+    @Override
+    public void reverse()
+    {
+    }
+
+    @Override
+    public DirectedGraph<VertexId, VertexProperty, EdgeProperty> reversedCopy()
+    {
+        return graph.asDirected();
+    }
+
+    @Override
+    public DirectedGraph<VertexId, VertexProperty, EdgeProperty> reversedView()
+    {
+        return this;
+    }
+
+    // Gets the edge of the undirected graph, which may be stored in the other direction.
+    private Edge<VertexId> undirectedEdge(Edge<VertexId> edge)
+    {
+        Edge<VertexId> undirectedEdge =
+                graph.getEdge(edge.source().id(), edge.destination().id());
+
+        return undirectedEdge == null ? edge : undirectedEdge;
+    }
+}
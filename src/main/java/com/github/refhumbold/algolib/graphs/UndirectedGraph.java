@@ -9,4 +9,14 @@ public interface UndirectedGraph<VertexId, VertexProperty, EdgeProperty>
      * @return the directed copy of this graph
      */
     DirectedGraph<VertexId, VertexProperty, EdgeProperty> asDirected();
+
+    /**
+     * Returns directed view of this graph. The view shares vertices, edges and properties with this
+     * graph, so no data is copied.
+     * @return the view of the graph with each edge in both directions
+     */
+    default DirectedGraph<VertexId, VertexProperty, EdgeProperty> asDirectedView()
+    {
+        return new SymmetricGraphView<>(this);
+    }
 }
@@ -33,13 +33,13 @@ public class UndirectedSimpleGraph<VertexId, VertexProperty, EdgeProperty>
     @Override
     public int getOutputDegree(Vertex<VertexId> vertex)
     {
-        return representation.getAdjacentEdges(vertex).mapToInt(edge -> 1).sum();
+        return representation.getOutputDegree(vertex);
     }
 
     @Override
     public int getInputDegree(Vertex<VertexId> vertex)
     {
-        return representation.getAdjacentEdges(vertex).mapToInt(edge -> 1).sum();
+        return representation.getOutputDegree(vertex);
     }
 
     @Override
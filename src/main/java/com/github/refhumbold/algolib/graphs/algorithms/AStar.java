@@ -0,0 +1,84 @@
+package com.github.refhumbold.algolib.graphs.algorithms;
+
+import java.util.function.ToDoubleFunction;
+import com.github.refhumbold.algolib.geometry.dim2.Geometry2D;
+import com.github.refhumbold.algolib.geometry.dim2.Point2D;
+import com.github.refhumbold.algolib.geometry.dim3.Geometry3D;
+import com.github.refhumbold.algolib.geometry.dim3.Point3D;
+import com.github.refhumbold.algolib.graphs.Graph;
+import com.github.refhumbold.algolib.graphs.Vertex;
+import com.github.refhumbold.algolib.graphs.properties.Weighted;
+
+/** Algorithm A* for shortest path between two vertices in a weighted graph. */
+public final class AStar
+{
+    /**
+     * Computes shortest path in given graph between given vertices using A* algorithm. The
+     * heuristic estimates the distance from a vertex to the target and must never exceed the real
+     * distance, otherwise the path may not be the shortest.
+     * @param graph the weighted graph with non-negative weights
+     * @param source the source vertex
+     * @param target the target vertex
+     * @param heuristic the admissible estimate of distance to the target
+     * @return the shortest path from the source to the target
+     * @throws IllegalStateException if the search finds an edge with negative weight
+     */
+    public static <VertexId, VertexProperty, EdgeProperty extends Weighted> Path<VertexId> findPath(
+            Graph<VertexId, VertexProperty, EdgeProperty> graph,
+            Vertex<VertexId> source,
+            Vertex<VertexId> target,
+            ToDoubleFunction<Vertex<VertexId>> heuristic)
+            throws IllegalStateException
+    {
+        PathSearch.validateVertex(graph, source);
+        PathSearch.validateVertex(graph, target);
+
+        EdgeWeights.Cursor<VertexId> cursor = EdgeWeights.of(graph).adjacentCursor();
+        PathSearch<VertexId> search = new PathSearch<>(source, heuristic);
+
+        while(search.peekPriority() < Weighted.INFINITY)
+        {
+            Vertex<VertexId> vertex = search.next();
+
+            if(vertex.equals(target))
+                return new Path<>(search.pathTo(target), search.distance(target));
+
+            cursor.reset(vertex);
+
+            while(cursor.hasNext())
+                search.relax(vertex, cursor.next(), cursor.weight());
+        }
+
+        return Path.unreachable();
+    }
+
+    /**
+     * Creates heuristic of straight-line distance to given target for vertices placed on a plane.
+     * It is admissible when no edge is lighter than the distance between its ends.
+     * @param graph the graph with vertex properties being points on a plane
+     * @param target the target vertex
+     * @return the heuristic of distance to the target
+     */
+    public static <VertexId> ToDoubleFunction<Vertex<VertexId>> euclidean2D(
+            Graph<VertexId, Point2D, ?> graph, Vertex<VertexId> target)
+    {
+        Point2D targetPoint = graph.getProperties().get(target);
+
+        return vertex -> Geometry2D.distance(graph.getProperties().get(vertex), targetPoint);
+    }
+
+    /**
+     * Creates heuristic of straight-line distance to given target for vertices placed in space.
+     * It is admissible when no edge is lighter than the distance between its ends.
+     * @param graph the graph with vertex properties being points in space
+     * @param target the target vertex
+     * @return the heuristic of distance to the target
+     */
+    public static <VertexId> ToDoubleFunction<Vertex<VertexId>> euclidean3D(
+            Graph<VertexId, Point3D, ?> graph, Vertex<VertexId> target)
+    {
+        Point3D targetPoint = graph.getProperties().get(target);
+
+        return vertex -> Geometry3D.distance(graph.getProperties().get(vertex), targetPoint);
+    }
+}
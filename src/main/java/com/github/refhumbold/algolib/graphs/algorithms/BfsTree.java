@@ -0,0 +1,19 @@
+package com.github.refhumbold.algolib.graphs.algorithms;
+
+/**
+ * Structure of breadth-first search tree in a graph with integer vertices. Levels and parents are
+ * indexed by vertex index and both equal {@code -1} for vertices not reached, and parents of roots
+ * are {@code -1} as well.
+ */
+public record BfsTree(int[] levels, int[] parents)
+{
+    /**
+     * Checks whether given vertex was reached by the search.
+     * @param vertex the vertex index
+     * @return {@code true} if the vertex was reached, otherwise {@code false}
+     */
+    public boolean isReached(int vertex)
+    {
+        return levels[vertex] >= 0;
+    }
+}
@@ -0,0 +1,631 @@
+package com.github.refhumbold.algolib.graphs.algorithms;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+import com.github.refhumbold.algolib.graphs.DirectedGraph;
+import com.github.refhumbold.algolib.graphs.Edge;
+import com.github.refhumbold.algolib.graphs.Vertex;
+import com.github.refhumbold.algolib.graphs.properties.Weighted;
+import com.github.refhumbold.algolib.structures.heaps.IndexedHeap;
+
+/**
+ * Structure of contraction hierarchies for shortest paths queries in a static directed weighted
+ * graph. Vertices are contracted in rounds of independent sets, which are processed in parallel,
+ * and shortcut edges are added to preserve distances. Only identifiers of vertices and upward edges
+ * are stored, so the hierarchy can be serialized and queried without the graph.
+ */
+public final class ContractionHierarchies<VertexId>
+        implements Serializable
+{
+    @Serial
+    private static final long serialVersionUID = 1L;
+    // searches for priorities only estimate the number of shortcuts, so they are shorter
+    private static final int CONTRACTION_SETTLED_LIMIT = 100;
+    private static final int ESTIMATION_SETTLED_LIMIT = 20;
+    private final ArrayList<VertexId> vertices;
+    private final HashMap<VertexId, Integer> indices;
+    private final int[] ranks;
+    // upward edges from each vertex and upward edges into each vertex
+    private final Arcs forwardArcs;
+    private final Arcs backwardArcs;
+    // finished queries, whose arrays are reused by next queries
+    private transient Queue<Query> queries = new ConcurrentLinkedQueue<>();
+
+    private ContractionHierarchies(
+            ArrayList<VertexId> vertices,
+            HashMap<VertexId, Integer> indices,
+            int[] ranks,
+            Arcs forwardArcs,
+            Arcs backwardArcs)
+    {
+        this.vertices = vertices;
+        this.indices = indices;
+        this.ranks = ranks;
+        this.forwardArcs = forwardArcs;
+        this.backwardArcs = backwardArcs;
+    }
+
+    /**
+     * Builds contraction hierarchies of given graph.
+     * @param graph the directed weighted graph with non-negative weights
+     * @return the contraction hierarchies of the graph
+     * @throws IllegalStateException if the graph contains an edge with negative weight
+     */
+    public static <VertexId, VertexProperty, EdgeProperty extends Weighted> ContractionHierarchies<VertexId> build(
+            DirectedGraph<VertexId, VertexProperty, EdgeProperty> graph)
+            throws IllegalStateException
+    {
+        ArrayList<VertexId> vertices = new ArrayList<>();
+        HashMap<VertexId, Integer> indices = new HashMap<>();
+
+        for(Vertex<VertexId> vertex : graph.getVertices())
+        {
+            indices.put(vertex.id(), vertices.size());
+            vertices.add(vertex.id());
+        }
+
+        Contraction contraction = new Contraction(vertices.size());
+
+        EdgeWeights.of(graph).forEachEdge((edge, weight) -> {
+            if(weight < 0.0)
+                throw new IllegalStateException("Graph contains an edge with negative weight.");
+
+            contraction.addArc(indices.get(edge.source().id()),
+                    indices.get(edge.destination().id()), weight, -1);
+        });
+
+        contraction.run();
+        return new ContractionHierarchies<>(vertices, indices, contraction.ranks,
+                Arcs.of(contraction.outgoing), Arcs.of(contraction.incoming));
+    }
+
+    /**
+     * Gets the identifiers of vertices in order of contraction.
+     * @return the vertex identifiers from the least to the most important
+     */
+    public List<VertexId> getVertexOrder()
+    {
+        return IntStream.range(0, ranks.length)
+                        .boxed()
+                        .sorted(Comparator.comparingInt(vertex -> ranks[vertex]))
+                        .map(vertices::get)
+                        .toList();
+    }
+
+    /**
+     * Gets the shortcut edges added during contraction.
+     * @return the shortcut edges
+     */
+    public List<Edge<VertexId>> getShortcuts()
+    {
+        List<Edge<VertexId>> shortcuts = new ArrayList<>();
+
+        for(int vertex = 0; vertex < ranks.length; ++vertex)
+        {
+            for(int i = forwardArcs.offsets[vertex]; i < forwardArcs.offsets[vertex + 1]; ++i)
+                if(forwardArcs.middles[i] >= 0)
+                    shortcuts.add(edge(vertex, forwardArcs.vertices[i]));
+
+            for(int i = backwardArcs.offsets[vertex]; i < backwardArcs.offsets[vertex + 1]; ++i)
+                if(backwardArcs.middles[i] >= 0)
+                    shortcuts.add(edge(backwardArcs.vertices[i], vertex));
+        }
+
+        return shortcuts;
+    }
+
+    /**
+     * Computes distance between given vertices.
+     * @param source the source vertex
+     * @param target the target vertex
+     * @return the length of shortest path from the source to the target
+     * @throws IllegalArgumentException if any vertex is not in this hierarchy
+     */
+    public double distance(Vertex<VertexId> source, Vertex<VertexId> target)
+    {
+        int sourceIndex = validateVertex(source);
+        int targetIndex = validateVertex(target);
+        Query query = startQuery(sourceIndex, targetIndex);
+        double length = query.length;
+
+        queries.add(query);
+        return length;
+    }
+
+    /**
+     * Computes shortest path between given vertices. Shortcuts are unpacked, so the path consists
+     * of edges of the original graph.
+     * @param source the source vertex
+     * @param target the target vertex
+     * @return the shortest path from the source to the target
+     * @throws IllegalArgumentException if any vertex is not in this hierarchy
+     */
+    public Path<VertexId> findPath(Vertex<VertexId> source, Vertex<VertexId> target)
+    {
+        int sourceIndex = validateVertex(source);
+        int targetIndex = validateVertex(target);
+        Query query = startQuery(sourceIndex, targetIndex);
+
+        if(query.meeting < 0)
+        {
+            queries.add(query);
+            return Path.unreachable();
+        }
+
+        List<Edge<VertexId>> edges = new ArrayList<>();
+        Deque<Integer> upwardArcs = new ArrayDeque<>();
+        int[] forwardParents = query.forward.parentArcs;
+        int[] backwardParents = query.backward.parentArcs;
+
+        for(int vertex = query.meeting; forwardParents[vertex] >= 0;
+            vertex = forwardArcs.sources[forwardParents[vertex]])
+            upwardArcs.push(forwardParents[vertex]);
+
+        for(int arc : upwardArcs)
+            unpack(forwardArcs.sources[arc], forwardArcs.vertices[arc], forwardArcs.middles[arc],
+                    edges);
+
+        for(int vertex = query.meeting; backwardParents[vertex] >= 0;
+            vertex = backwardArcs.sources[backwardParents[vertex]])
+        {
+            int arc = backwardParents[vertex];
+
+            unpack(backwardArcs.vertices[arc], backwardArcs.sources[arc],
+                    backwardArcs.middles[arc], edges);
+        }
+
+        double length = query.length;
+
+        queries.add(query);
+        return new Path<>(edges, length);
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream input)
+            throws IOException, ClassNotFoundException
+    {
+        input.defaultReadObject();
+        queries = new ConcurrentLinkedQueue<>();
+    }
+
+    // Runs query between given vertices in a finished query or in a new one, if none is free.
+    private Query startQuery(int source, int target)
+    {
+        Query query = queries.poll();
+
+        if(query == null)
+            query = new Query();
+
+        query.run(source, target);
+        return query;
+    }
+
+    // Replaces shortcut with edges of the original graph.
+    private void unpack(int source, int destination, int middle, List<Edge<VertexId>> edges)
+    {
+        Deque<int[]> arcs = new ArrayDeque<>();
+
+        arcs.push(new int[]{source, destination, middle});
+
+        while(!arcs.isEmpty())
+        {
+            int[] arc = arcs.pop();
+
+            if(arc[2] < 0)
+            {
+                edges.add(edge(arc[0], arc[1]));
+                continue;
+            }
+
+            // both halves of a shortcut are upward edges of its contracted middle vertex
+            arcs.push(new int[]{arc[2], arc[1], forwardArcs.middle(arc[2], arc[1])});
+            arcs.push(new int[]{arc[0], arc[2], backwardArcs.middle(arc[2], arc[0])});
+        }
+    }
+
+    private Edge<VertexId> edge(int source, int destination)
+    {
+        return new Edge<>(new Vertex<>(vertices.get(source)),
+                new Vertex<>(vertices.get(destination)));
+    }
+
+    private int validateVertex(Vertex<VertexId> vertex)
+    {
+        Integer index = indices.get(vertex.id());
+
+        if(index == null)
+            throw new IllegalArgumentException(
+                    "Vertex %s does not belong to this hierarchy".formatted(vertex));
+
+        return index;
+    }
+
+    // Upward edges of vertices in compressed rows.
+    private record Arcs(
+            int[] offsets, int[] sources, int[] vertices, double[] weights, int[] middles)
+            implements Serializable
+    {
+        static Arcs of(List<HashMap<Integer, Arc>> arcs)
+        {
+            int[] offsets = new int[arcs.size() + 1];
+
+            for(int i = 0; i < arcs.size(); ++i)
+                offsets[i + 1] = offsets[i] + arcs.get(i).size();
+
+            int[] sources = new int[offsets[arcs.size()]];
+            int[] vertices = new int[offsets[arcs.size()]];
+            double[] weights = new double[offsets[arcs.size()]];
+            int[] middles = new int[offsets[arcs.size()]];
+
+            for(int i = 0; i < arcs.size(); ++i)
+            {
+                int index = offsets[i];
+
+                for(Map.Entry<Integer, Arc> entry : arcs.get(i).entrySet())
+                {
+                    sources[index] = i;
+                    vertices[index] = entry.getKey();
+                    weights[index] = entry.getValue().weight;
+                    middles[index] = entry.getValue().middle;
+                    ++index;
+                }
+            }
+
+            return new Arcs(offsets, sources, vertices, weights, middles);
+        }
+
+        int middle(int vertex, int neighbour)
+        {
+            for(int i = offsets[vertex]; i < offsets[vertex + 1]; ++i)
+                if(vertices[i] == neighbour)
+                    return middles[i];
+
+            throw new NoSuchElementException(
+                    "No arc between %d and %d".formatted(vertex, neighbour));
+        }
+    }
+
+    // Bidirectional Dijkstra search over upward edges.
+    private final class Query
+    {
+        final UpwardSearch forward = new UpwardSearch(forwardArcs);
+        final UpwardSearch backward = new UpwardSearch(backwardArcs);
+        double length = Weighted.INFINITY;
+        int meeting = -1;
+
+        void run(int source, int target)
+        {
+            length = Weighted.INFINITY;
+            meeting = -1;
+            forward.start(source);
+            backward.start(target);
+
+            while(true)
+            {
+                boolean forwardActive = forward.isActive(length);
+                boolean backwardActive = backward.isActive(length);
+
+                if(!forwardActive && !backwardActive)
+                    break;
+
+                boolean isForward = forwardActive && (!backwardActive
+                        || forward.peekDistance() <= backward.peekDistance());
+
+                if(isForward)
+                    step(forward, backward);
+                else
+                    step(backward, forward);
+            }
+        }
+
+        // Single step of search in one direction.
+        private void step(UpwardSearch search, UpwardSearch other)
+        {
+            int vertex = search.next();
+            double pathLength = search.distances[vertex] + other.distances[vertex];
+
+            if(pathLength < length)
+            {
+                length = pathLength;
+                meeting = vertex;
+            }
+        }
+    }
+
+    // Dijkstra search in one direction, which resets only the vertices reached before.
+    private final class UpwardSearch
+    {
+        final double[] distances = new double[ranks.length];
+        // arcs by which vertices were reached, or -1 for the start vertex
+        final int[] parentArcs = new int[ranks.length];
+        private final Arcs arcs;
+        private final IndexedHeap vertexHeap = new IndexedHeap(ranks.length);
+        private final int[] reached = new int[ranks.length];
+        private int reachedCount = 0;
+
+        UpwardSearch(Arcs arcs)
+        {
+            this.arcs = arcs;
+            Arrays.fill(distances, Weighted.INFINITY);
+        }
+
+        void start(int vertex)
+        {
+            for(int i = 0; i < reachedCount; ++i)
+                distances[reached[i]] = Weighted.INFINITY;
+
+            vertexHeap.clear();
+            reachedCount = 0;
+            reach(vertex, 0.0, -1);
+        }
+
+        // Search direction may stop when it cannot improve the found path.
+        boolean isActive(double length)
+        {
+            return !vertexHeap.isEmpty() && peekDistance() < length;
+        }
+
+        double peekDistance()
+        {
+            return distances[vertexHeap.element()];
+        }
+
+        // Settles the closest vertex and relaxes its upward edges.
+        int next()
+        {
+            int vertex = vertexHeap.remove();
+
+            for(int i = arcs.offsets[vertex]; i < arcs.offsets[vertex + 1]; ++i)
+                reach(arcs.vertices[i], distances[vertex] + arcs.weights[i], i);
+
+            return vertex;
+        }
+
+        private void reach(int vertex, double distance, int arc)
+        {
+            if(distance >= distances[vertex])
+                return;
+
+            if(distances[vertex] == Weighted.INFINITY)
+                reached[reachedCount++] = vertex;
+
+            distances[vertex] = distance;
+            parentArcs[vertex] = arc;
+
+            if(vertexHeap.contains(vertex))
+                vertexHeap.decreaseKey(vertex, distance);
+            else
+                vertexHeap.add(vertex, distance);
+        }
+    }
+
+    private record Arc(double weight, int middle)
+    {
+    }
+
+    private record Shortcut(int source, int destination, double weight)
+    {
+    }
+
+    // Contraction of vertices in rounds of independent sets.
+    private static final class Contraction
+    {
+        final List<HashMap<Integer, Arc>> outgoing = new ArrayList<>();
+        final List<HashMap<Integer, Arc>> incoming = new ArrayList<>();
+        final int[] ranks;
+        private final int[] priorities;
+        private final int[] contractedNeighbours;
+        private final boolean[] outdated;
+        private final boolean[] contracting;
+        // searches not used by any thread at the moment, dropped together with the contraction
+        private final Queue<WitnessSearch> witnessSearches = new ConcurrentLinkedQueue<>();
+
+        Contraction(int verticesCount)
+        {
+            for(int i = 0; i < verticesCount; ++i)
+            {
+                outgoing.add(new HashMap<>());
+                incoming.add(new HashMap<>());
+            }
+
+            ranks = new int[verticesCount];
+            priorities = new int[verticesCount];
+            contractedNeighbours = new int[verticesCount];
+            outdated = new boolean[verticesCount];
+            contracting = new boolean[verticesCount];
+            Arrays.fill(ranks, -1);
+            Arrays.fill(outdated, true);
+        }
+
+        void addArc(int source, int destination, double weight, int middle)
+        {
+            if(source == destination)
+                return;
+
+            Arc arc = outgoing.get(source).get(destination);
+
+            if(arc == null || weight < arc.weight)
+            {
+                outgoing.get(source).put(destination, new Arc(weight, middle));
+                incoming.get(destination).put(source, new Arc(weight, middle));
+            }
+        }
+
+        void run()
+        {
+            int[] remaining = IntStream.range(0, ranks.length).toArray();
+            int rank = 0;
+
+            while(remaining.length > 0)
+            {
+                // searches only read the arcs, so each phase runs in parallel
+                Arrays.stream(remaining).parallel().filter(v -> outdated[v]).forEach(v -> {
+                    priorities[v] = findShortcuts(v, ESTIMATION_SETTLED_LIMIT).size()
+                            - outgoing.get(v).size() - incoming.get(v).size()
+                            + contractedNeighbours[v];
+                    outdated[v] = false;
+                });
+
+                int[] selected =
+                        Arrays.stream(remaining).parallel().filter(this::isLocalMinimum).toArray();
+
+                for(int vertex : selected)
+                    contracting[vertex] = true;
+
+                List<List<Shortcut>> shortcuts = Arrays.stream(selected)
+                                                       .parallel()
+                                                       .mapToObj(v -> findShortcuts(v,
+                                                               CONTRACTION_SETTLED_LIMIT))
+                                                       .toList();
+
+                for(int i = 0; i < selected.length; ++i)
+                    contract(selected[i], shortcuts.get(i), rank++);
+
+                remaining = Arrays.stream(remaining).filter(v -> ranks[v] < 0).toArray();
+            }
+        }
+
+        private boolean isLocalMinimum(int vertex)
+        {
+            for(int neighbour : outgoing.get(vertex).keySet())
+                if(isBefore(neighbour, vertex))
+                    return false;
+
+            for(int neighbour : incoming.get(vertex).keySet())
+                if(isBefore(neighbour, vertex))
+                    return false;
+
+            return true;
+        }
+
+        private boolean isBefore(int vertex1, int vertex2)
+        {
+            return priorities[vertex1] < priorities[vertex2]
+                    || priorities[vertex1] == priorities[vertex2] && vertex1 < vertex2;
+        }
+
+        private void contract(int vertex, List<Shortcut> shortcuts, int rank)
+        {
+            ranks[vertex] = rank;
+            contracting[vertex] = false;
+
+            for(int neighbour : incoming.get(vertex).keySet())
+            {
+                outgoing.get(neighbour).remove(vertex);
+                ++contractedNeighbours[neighbour];
+                outdated[neighbour] = true;
+            }
+
+            for(int neighbour : outgoing.get(vertex).keySet())
+            {
+                incoming.get(neighbour).remove(vertex);
+                ++contractedNeighbours[neighbour];
+                outdated[neighbour] = true;
+            }
+
+            for(Shortcut shortcut : shortcuts)
+                addArc(shortcut.source, shortcut.destination, shortcut.weight, vertex);
+        }
+
+        // Finds shortcuts needed to keep distances after contraction of given vertex.
+        private List<Shortcut> findShortcuts(int vertex, int settledLimit)
+        {
+            List<Shortcut> shortcuts = new ArrayList<>();
+            WitnessSearch search = witnessSearches.poll();
+
+            if(search == null)
+                search = new WitnessSearch();
+
+            for(Map.Entry<Integer, Arc> in : incoming.get(vertex).entrySet())
+            {
+                double maxLength = 0.0;
+
+                for(Map.Entry<Integer, Arc> out : outgoing.get(vertex).entrySet())
+                    if(!out.getKey().equals(in.getKey()))
+                        maxLength =
+                                Math.max(maxLength, in.getValue().weight + out.getValue().weight);
+
+                search.run(in.getKey(), vertex, maxLength, settledLimit);
+
+                for(Map.Entry<Integer, Arc> out : outgoing.get(vertex).entrySet())
+                {
+                    double length = in.getValue().weight + out.getValue().weight;
+
+                    if(!out.getKey().equals(in.getKey())
+                            && search.distances[out.getKey()] > length)
+                        shortcuts.add(new Shortcut(in.getKey(), out.getKey(), length));
+                }
+            }
+
+            witnessSearches.add(search);
+            return shortcuts;
+        }
+
+        // Local Dijkstra search for paths that avoid vertices being contracted, used by one thread
+        // at a time.
+        private final class WitnessSearch
+        {
+            final double[] distances = new double[ranks.length];
+            private final IndexedHeap vertexHeap = new IndexedHeap(ranks.length);
+            private final int[] reached = new int[ranks.length];
+            private int reachedCount = 0;
+
+            WitnessSearch()
+            {
+                Arrays.fill(distances, Weighted.INFINITY);
+            }
+
+            void run(int source, int excluded, double maxLength, int settledLimit)
+            {
+                for(int i = 0; i < reachedCount; ++i)
+                    distances[reached[i]] = Weighted.INFINITY;
+
+                vertexHeap.clear();
+                reachedCount = 0;
+                reach(source, 0.0);
+
+                // distances of vertices left in the heap are lengths of found paths as well
+                for(int settled = 0; !vertexHeap.isEmpty() && settled < settledLimit;
+                    ++settled)
+                {
+                    int vertex = vertexHeap.remove();
+
+                    if(distances[vertex] > maxLength)
+                        break;
+
+                    for(Map.Entry<Integer, Arc> out : outgoing.get(vertex).entrySet())
+                    {
+                        int neighbour = out.getKey();
+
+                        double distance = distances[vertex] + out.getValue().weight;
+
+                        if(neighbour != excluded && !contracting[neighbour]
+                                && distance <= maxLength)
+                            reach(neighbour, distance);
+                    }
+                }
+            }
+
+            private void reach(int vertex, double distance)
+            {
+                if(distance >= distances[vertex])
+                    return;
+
+                if(distances[vertex] == Weighted.INFINITY)
+                    reached[reachedCount++] = vertex;
+
+                distances[vertex] = distance;
+
+                if(vertexHeap.contains(vertex))
+                    vertexHeap.decreaseKey(vertex, distance);
+                else
+                    vertexHeap.add(vertex, distance);
+            }
+        }
+    }
+}
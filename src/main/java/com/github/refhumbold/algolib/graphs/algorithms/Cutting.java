@@ -1,17 +1,15 @@
 package com.github.refhumbold.algolib.graphs.algorithms;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.*;
+import java.util.stream.IntStream;
+import com.github.refhumbold.algolib.graphs.CompactUndirectedGraph;
 import com.github.refhumbold.algolib.graphs.Edge;
+import com.github.refhumbold.algolib.graphs.IntGraph;
 import com.github.refhumbold.algolib.graphs.UndirectedGraph;
 import com.github.refhumbold.algolib.graphs.Vertex;
-import com.github.refhumbold.algolib.graphs.algorithms.strategy.DfsStrategy;
+import com.github.refhumbold.algolib.graphs.algorithms.strategy.IntDfsStrategy;
 
-/** Algorithms for graph cutting (edge cut and vertex cut). */
+/** Algorithms for graph cutting (edge cut, vertex cut and biconnected components). */
 public final class Cutting
 {
     /**
@@ -22,14 +20,17 @@ public final class Cutting
     public static <VertexId, VertexProperty, EdgeProperty> Collection<Edge<VertexId>> findEdgeCut(
             UndirectedGraph<VertexId, VertexProperty, EdgeProperty> graph)
     {
-        CuttingStrategy<VertexId> strategy = new CuttingStrategy<>();
-
-        Searching.dfsRecursive(graph, strategy, graph.getVertices());
-        return graph.getVertices()
-                    .stream()
-                    .filter(strategy::hasBridge)
-                    .map(vertex -> graph.getEdge(vertex, strategy.dfsParents.get(vertex)))
-                    .collect(Collectors.toList());
+        CompactUndirectedGraph<VertexId, VertexProperty, EdgeProperty> compactGraph =
+                toCompact(graph);
+        CuttingStrategy strategy = search(compactGraph, false);
+        List<Edge<VertexId>> edgeCut = new ArrayList<>();
+
+        for(int vertex = 0; vertex < compactGraph.getVerticesCount(); ++vertex)
+            if(strategy.hasBridge(vertex))
+                edgeCut.add(compactGraph.getEdge(compactGraph.vertexAt(strategy.parents[vertex]),
+                        compactGraph.vertexAt(vertex)));
+
+        return edgeCut;
     }
 
     /**
@@ -40,83 +41,213 @@ public final class Cutting
     public static <VertexId, VertexProperty, EdgeProperty> Collection<Vertex<VertexId>> findVertexCut(
             UndirectedGraph<VertexId, VertexProperty, EdgeProperty> graph)
     {
-        CuttingStrategy<VertexId> strategy = new CuttingStrategy<>();
+        CompactUndirectedGraph<VertexId, VertexProperty, EdgeProperty> compactGraph =
+                toCompact(graph);
+
+        return IntStream.of(findVertexCutIndices(compactGraph))
+                        .mapToObj(compactGraph::vertexAt)
+                        .toList();
+    }
+
+    /**
+     * Computes biconnected components of given undirected graph. Each component is the set of
+     * vertices of a maximal subgraph that stays connected after removing any single vertex.
+     * Separators belong to many components and isolated vertices belong to none.
+     * @param graph the undirected graph
+     * @return the vertices in biconnected components
+     */
+    public static <VertexId, VertexProperty, EdgeProperty> List<Set<Vertex<VertexId>>> findBiconnectedComponents(
+            UndirectedGraph<VertexId, VertexProperty, EdgeProperty> graph)
+    {
+        CompactUndirectedGraph<VertexId, VertexProperty, EdgeProperty> compactGraph =
+                toCompact(graph);
+        CuttingStrategy strategy = search(compactGraph, true);
+        List<Set<Vertex<VertexId>>> components = new ArrayList<>(strategy.components.size());
+
+        for(int[] component : strategy.components)
+            components.add(new HashSet<>(
+                    IntStream.of(component).mapToObj(compactGraph::vertexAt).toList()));
+
+        return components;
+    }
+
+    /**
+     * Computes edge cut of given undirected graph with integer vertices.
+     * @param graph the undirected graph with integer vertices
+     * @return the indices of edges in the edge cut
+     */
+    public static int[] findEdgeCutIndices(IntGraph graph)
+    {
+        CuttingStrategy strategy = search(graph, false);
+        IntGraph.NeighbourCursor cursor = graph.neighbourCursor();
+
+        return IntStream.range(0, graph.getVerticesCount())
+                        .filter(strategy::hasBridge)
+                        .map(vertex -> findEdgeIndex(cursor, vertex, strategy.parents[vertex]))
+                        .toArray();
+    }
+
+    /**
+     * Computes vertex cut of given undirected graph with integer vertices.
+     * @param graph the undirected graph with integer vertices
+     * @return the indices of vertices in the vertex cut in ascending order
+     */
+    public static int[] findVertexCutIndices(IntGraph graph)
+    {
+        CuttingStrategy strategy = search(graph, false);
 
-        Searching.dfsRecursive(graph, strategy, graph.getVertices());
-        return graph.getVertices()
-                    .stream()
-                    .filter(strategy::isSeparator)
-                    .collect(Collectors.toList());
+        return IntStream.range(0, graph.getVerticesCount())
+                        .filter(strategy::isSeparator)
+                        .toArray();
     }
 
-    private static class CuttingStrategy<VertexId>
-            implements DfsStrategy<VertexId>
+    private static CuttingStrategy search(IntGraph graph, boolean collectsComponents)
     {
-        final Map<Vertex<VertexId>, Vertex<VertexId>> dfsParents = new HashMap<>();
-        final Map<Vertex<VertexId>, List<Vertex<VertexId>>> dfsChildren = new HashMap<>();
-        final Map<Vertex<VertexId>, Integer> dfsDepths = new HashMap<>();
-        final Map<Vertex<VertexId>, Integer> lowValues = new HashMap<>();
-        int depth = 0;
+        CuttingStrategy strategy = new CuttingStrategy(graph, collectsComponents);
+
+        Searching.dfsIterative(graph, strategy,
+                IntStream.range(0, graph.getVerticesCount()).toArray());
+        return strategy;
+    }
+
+    // Scans neighbours of source vertex for the edge to destination vertex; callers pass the child
+    // of a tree edge as source, so every row is scanned at most once.
+    private static int findEdgeIndex(IntGraph.NeighbourCursor cursor, int source, int destination)
+    {
+        cursor.reset(source);
+
+        while(cursor.hasNext())
+            if(cursor.next() == destination)
+                return cursor.edge();
+
+        return -1;
+    }
+
+    private static <VertexId, VertexProperty, EdgeProperty> CompactUndirectedGraph<VertexId, VertexProperty, EdgeProperty> toCompact(
+            UndirectedGraph<VertexId, VertexProperty, EdgeProperty> graph)
+    {
+        return graph instanceof CompactUndirectedGraph<VertexId, VertexProperty, EdgeProperty> g
+                ? g
+                : new CompactUndirectedGraph<>(graph);
+    }
+
+    private static class CuttingStrategy
+            implements IntDfsStrategy
+    {
+        final int[] parents;
+        final List<int[]> components = new ArrayList<>();
+        private final boolean collectsComponents;
+        // pre-order numbers of vertices counted from one
+        private final int[] preOrder;
+        private final int[] lowValues;
+        private final int[] childrenCounts;
+        private final boolean[] separators;
+        private final boolean[] bridges;
+        // edges of the current biconnected component as pairs of their endpoints
+        private final int[] edgeStack;
+        private int edgeStackSize = 0;
+        private int timer = 0;
+
+        CuttingStrategy(IntGraph graph, boolean collectsComponents)
+        {
+            int verticesCount = graph.getVerticesCount();
+
+            this.collectsComponents = collectsComponents;
+            parents = new int[verticesCount];
+            preOrder = new int[verticesCount];
+            lowValues = new int[verticesCount];
+            childrenCounts = new int[verticesCount];
+            separators = new boolean[verticesCount];
+            bridges = new boolean[verticesCount];
+            edgeStack = new int[collectsComponents ? 2 * graph.getEdgesCount() : 0];
+        }
 
         @Override
-        public void forRoot(Vertex<VertexId> root)
+        public void forRoot(int root)
         {
+            parents[root] = -1;
         }
 
         @Override
-        public void onEntry(Vertex<VertexId> vertex)
+        public void onEntry(int vertex)
         {
-            dfsDepths.put(vertex, depth);
-            lowValues.put(vertex, depth);
-            dfsChildren.putIfAbsent(vertex, new ArrayList<>());
-            ++depth;
+            preOrder[vertex] = ++timer;
+            lowValues[vertex] = preOrder[vertex];
         }
 
         @Override
-        public void onNextVertex(Vertex<VertexId> vertex, Vertex<VertexId> neighbour)
+        public void onNextVertex(int vertex, int neighbour)
         {
-            dfsParents.put(neighbour, vertex);
-            dfsChildren.get(vertex).add(neighbour);
+            parents[neighbour] = vertex;
+            ++childrenCounts[vertex];
+            pushEdge(vertex, neighbour);
         }
 
         @Override
-        public void onExit(Vertex<VertexId> vertex)
+        public void onExit(int vertex)
         {
-            int minimalLowValue = dfsChildren.get(vertex)
-                                             .stream()
-                                             .mapToInt(lowValues::get)
-                                             .min()
-                                             .orElse(Integer.MAX_VALUE);
-
-            lowValues.put(vertex, Math.min(lowValues.get(vertex), minimalLowValue));
-            --depth;
+            int parent = parents[vertex];
+
+            if(parent < 0)
+                return;
+
+            lowValues[parent] = Math.min(lowValues[parent], lowValues[vertex]);
+            bridges[vertex] = lowValues[vertex] > preOrder[parent];
+
+            if(lowValues[vertex] >= preOrder[parent])
+            {
+                separators[parent] = true;
+
+                if(collectsComponents)
+                    popComponent(parent, vertex);
+            }
         }
 
         @Override
-        public void onEdgeToVisited(Vertex<VertexId> vertex, Vertex<VertexId> neighbour)
+        public void onEdgeToVisited(int vertex, int neighbour)
         {
-            if(!neighbour.equals(dfsParents.get(vertex)))
-                lowValues.put(vertex, Math.min(lowValues.get(vertex), dfsDepths.get(neighbour)));
+            if(neighbour == parents[vertex] || preOrder[neighbour] > preOrder[vertex])
+                return;
+
+            lowValues[vertex] = Math.min(lowValues[vertex], preOrder[neighbour]);
+            pushEdge(vertex, neighbour);
         }
 
-        boolean hasBridge(Vertex<VertexId> vertex)
+        boolean hasBridge(int vertex)
         {
-            return !isDfsRoot(vertex) && lowValues.get(vertex).equals(dfsDepths.get(vertex));
+            return bridges[vertex];
         }
 
-        boolean isSeparator(Vertex<VertexId> vertex)
+        boolean isSeparator(int vertex)
         {
-            if(isDfsRoot(vertex))
-                return dfsChildren.get(vertex).size() > 1;
+            return parents[vertex] < 0 ? childrenCounts[vertex] > 1 : separators[vertex];
+        }
 
-            return dfsChildren.get(vertex)
-                              .stream()
-                              .anyMatch(child -> lowValues.get(child) >= dfsDepths.get(vertex));
+        private void pushEdge(int vertex, int neighbour)
+        {
+            if(collectsComponents)
+            {
+                edgeStack[edgeStackSize++] = vertex;
+                edgeStack[edgeStackSize++] = neighbour;
+            }
         }
 
-        boolean isDfsRoot(Vertex<VertexId> vertex)
+        // Removes edges of the component closed by given tree edge from the stack.
+        private void popComponent(int parent, int child)
         {
-            return dfsDepths.get(vertex) == 0;
+            Set<Integer> component = new HashSet<>();
+            int source;
+            int destination;
+
+            do
+            {
+                destination = edgeStack[--edgeStackSize];
+                source = edgeStack[--edgeStackSize];
+                component.add(source);
+                component.add(destination);
+            } while(source != parent || destination != child);
+
+            components.add(component.stream().mapToInt(Integer::intValue).toArray());
         }
     }
 }
@@ -0,0 +1,101 @@
+package com.github.refhumbold.algolib.graphs.algorithms;
+
+import java.util.*;
+import com.github.refhumbold.algolib.graphs.Vertex;
+import com.github.refhumbold.algolib.tuples.Pair;
+
+/** Structure of distances between all pairs of graph vertices stored in a flat matrix. */
+public final class DistanceMatrix<VertexId>
+{
+    private final List<Vertex<VertexId>> vertices;
+    private final Map<Vertex<VertexId>, Integer> indices;
+    private final double[] distances;
+
+    DistanceMatrix(
+            List<Vertex<VertexId>> vertices,
+            Map<Vertex<VertexId>, Integer> indices,
+            double[] distances)
+    {
+        this.vertices = vertices;
+        this.indices = indices;
+        this.distances = distances;
+    }
+
+    // Creates flat matrix of distances between given number of vertices.
+    static double[] newDistances(int verticesCount)
+    {
+        try
+        {
+            return new double[Math.multiplyExact(verticesCount, verticesCount)];
+        }
+        catch(ArithmeticException e)
+        {
+            throw new IllegalArgumentException(
+                    "Too many vertices for a distance matrix: %d".formatted(verticesCount), e);
+        }
+    }
+
+    /**
+     * Gets the vertices in order of their indices in this matrix.
+     * @return the vertices
+     */
+    public List<Vertex<VertexId>> getVertices()
+    {
+        return Collections.unmodifiableList(vertices);
+    }
+
+    /**
+     * Gets the index of given vertex in this matrix.
+     * @param vertex the vertex
+     * @return the index of the vertex
+     * @throws IllegalArgumentException if the vertex is not in this matrix
+     */
+    public int indexOf(Vertex<VertexId> vertex)
+    {
+        Integer index = indices.get(vertex);
+
+        if(index == null)
+            throw new IllegalArgumentException(
+                    "Vertex %s does not belong to this matrix".formatted(vertex));
+
+        return index;
+    }
+
+    /**
+     * Gets the distance between given vertices.
+     * @param source the source vertex
+     * @param destination the destination vertex
+     * @return the length of shortest path from the source to the destination
+     * @throws IllegalArgumentException if any vertex is not in this matrix
+     */
+    public double distance(Vertex<VertexId> source, Vertex<VertexId> destination)
+    {
+        return distance(indexOf(source), indexOf(destination));
+    }
+
+    /**
+     * Gets the distance between vertices with given indices.
+     * @param source the index of source vertex
+     * @param destination the index of destination vertex
+     * @return the length of shortest path from the source to the destination
+     */
+    public double distance(int source, int destination)
+    {
+        return distances[source * vertices.size() + destination];
+    }
+
+    /**
+     * Converts this matrix to map of distances between all pairs of vertices.
+     * @return the map of distances
+     */
+    public Map<Pair<Vertex<VertexId>, Vertex<VertexId>>, Double> toMap()
+    {
+        Map<Pair<Vertex<VertexId>, Vertex<VertexId>>, Double> map = new HashMap<>();
+
+        for(int i = 0; i < vertices.size(); ++i)
+            for(int j = 0; j < vertices.size(); ++j)
+                map.put(Pair.of(vertices.get(i), vertices.get(j)), distance(i, j));
+
+        return map;
+    }
+}
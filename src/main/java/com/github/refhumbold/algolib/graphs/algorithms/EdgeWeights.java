@@ -0,0 +1,221 @@
+package com.github.refhumbold.algolib.graphs.algorithms;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.Function;
+import com.github.refhumbold.algolib.graphs.CompactDirectedGraph;
+import com.github.refhumbold.algolib.graphs.CompactGraph;
+import com.github.refhumbold.algolib.graphs.DirectedGraph;
+import com.github.refhumbold.algolib.graphs.Edge;
+import com.github.refhumbold.algolib.graphs.Graph;
+import com.github.refhumbold.algolib.graphs.IntGraph;
+import com.github.refhumbold.algolib.graphs.Vertex;
+import com.github.refhumbold.algolib.graphs.properties.WeightColumn;
+import com.github.refhumbold.algolib.graphs.properties.Weighted;
+
+/**
+ * Access to edges of a weighted graph together with their weights. Weights of compact graphs are
+ * read from their weight columns by edge indices of neighbour cursors, so no edge is looked up.
+ */
+final class EdgeWeights<VertexId>
+{
+    private final Graph<VertexId, ?, ? extends Weighted> graph;
+    private final CompactGraph<VertexId, ?, ? extends Weighted> compactGraph;
+    private final WeightColumn weights;
+
+    private EdgeWeights(
+            Graph<VertexId, ?, ? extends Weighted> graph,
+            CompactGraph<VertexId, ?, ? extends Weighted> compactGraph,
+            WeightColumn weights)
+    {
+        this.graph = graph;
+        this.compactGraph = compactGraph;
+        this.weights = weights;
+    }
+
+    /**
+     * Creates access to weights of edges in given graph.
+     * @param graph the weighted graph
+     * @return the access to edge weights
+     */
+    static <VertexId, VertexProperty, EdgeProperty extends Weighted> EdgeWeights<VertexId> of(
+            Graph<VertexId, VertexProperty, EdgeProperty> graph)
+    {
+        return graph instanceof CompactGraph<VertexId, VertexProperty, EdgeProperty> compactGraph
+               ? new EdgeWeights<>(graph, compactGraph, compactGraph.getWeightColumn())
+               : new EdgeWeights<>(graph, null, null);
+    }
+
+    /**
+     * Creates new cursor over edges going out of vertices.
+     * @return the cursor over outgoing edges
+     */
+    Cursor<VertexId> adjacentCursor()
+    {
+        return compactGraph == null
+               ? new PropertyCursor(graph::getAdjacentEdges)
+               : new ColumnCursor(compactGraph.neighbourCursor(), compactGraph::getAdjacentEdges);
+    }
+
+    /**
+     * Creates new cursor over edges coming into vertices, which are the adjacent edges in
+     * undirected graphs.
+     * @return the cursor over incoming edges
+     */
+    Cursor<VertexId> incomingCursor()
+    {
+        if(compactGraph instanceof CompactDirectedGraph<VertexId, ?, ? extends Weighted> g)
+            return new ColumnCursor(g.incomingCursor(), g::getIncomingEdges);
+
+        if(graph instanceof DirectedGraph<VertexId, ?, ? extends Weighted> g)
+            return new PropertyCursor(g::getIncomingEdges);
+
+        return adjacentCursor();
+    }
+
+    /**
+     * Performs given action for each edge of the graph with its weight.
+     * @param action the action for edges and their weights
+     */
+    void forEachEdge(WeightedEdgeConsumer<VertexId> action)
+    {
+        Cursor<VertexId> cursor = adjacentCursor();
+        boolean isDirected = graph instanceof DirectedGraph<VertexId, ?, ?>;
+
+        for(Vertex<VertexId> vertex : graph.getVertices())
+        {
+            cursor.reset(vertex);
+
+            while(cursor.hasNext())
+            {
+                Edge<VertexId> edge = cursor.next();
+
+                // edges of undirected graphs are adjacent to both ends, but taken only once
+                if(isDirected || edge.source().equals(vertex))
+                    action.accept(edge, cursor.weight());
+            }
+        }
+    }
+
+    /** Cursor over edges of vertices together with their weights. */
+    interface Cursor<VertexId>
+    {
+        /**
+         * Moves this cursor before the first edge of given vertex.
+         * @param vertex the vertex
+         * @throws IllegalArgumentException if the vertex does not belong to the graph
+         */
+        void reset(Vertex<VertexId> vertex);
+
+        /**
+         * Checks whether current vertex has any more edges.
+         * @return {@code true} if there is next edge, otherwise {@code false}
+         */
+        boolean hasNext();
+
+        /**
+         * Moves this cursor to the next edge of current vertex.
+         * @return the next edge
+         */
+        Edge<VertexId> next();
+
+        /**
+         * Gets the weight of the edge returned by last call to {@link #next()}.
+         * @return the weight of the edge
+         */
+        double weight();
+    }
+
+    @FunctionalInterface
+    interface WeightedEdgeConsumer<VertexId>
+    {
+        void accept(Edge<VertexId> edge, double weight);
+    }
+
+    private final class PropertyCursor
+            implements Cursor<VertexId>
+    {
+        private final Function<Vertex<VertexId>, Collection<Edge<VertexId>>> edges;
+        private Iterator<Edge<VertexId>> iterator;
+        private Edge<VertexId> edge;
+
+        PropertyCursor(Function<Vertex<VertexId>, Collection<Edge<VertexId>>> edges)
+        {
+            this.edges = edges;
+        }
+
+        @Override
+        public void reset(Vertex<VertexId> vertex)
+        {
+            iterator = edges.apply(vertex).iterator();
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public Edge<VertexId> next()
+        {
+            edge = iterator.next();
+            return edge;
+        }
+
+        @Override
+        public double weight()
+        {
+            return graph.getProperties().get(edge).getWeight();
+        }
+    }
+
+    private final class ColumnCursor
+            implements Cursor<VertexId>
+    {
+        // visits the same edges in the same order as the collections of edges
+        private final IntGraph.NeighbourCursor neighbours;
+        private final Function<Vertex<VertexId>, Collection<Edge<VertexId>>> edges;
+        private Iterator<Edge<VertexId>> iterator;
+
+        ColumnCursor(
+                IntGraph.NeighbourCursor neighbours,
+                Function<Vertex<VertexId>, Collection<Edge<VertexId>>> edges)
+        {
+            this.neighbours = neighbours;
+            this.edges = edges;
+        }
+
+        @Override
+        public void reset(Vertex<VertexId> vertex)
+        {
+            int index = compactGraph.indexOf(vertex);
+
+            if(index < 0)
+                throw new IllegalArgumentException(
+                        "Vertex %s does not belong to this graph".formatted(vertex));
+
+            neighbours.reset(index);
+            iterator = edges.apply(vertex).iterator();
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return neighbours.hasNext();
+        }
+
+        @Override
+        public Edge<VertexId> next()
+        {
+            neighbours.next();
+            return iterator.next();
+        }
+
+        @Override
+        public double weight()
+        {
+            return weights.get(neighbours.edge());
+        }
+    }
+}
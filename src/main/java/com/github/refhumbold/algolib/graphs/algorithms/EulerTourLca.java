@@ -0,0 +1,189 @@
+package com.github.refhumbold.algolib.graphs.algorithms;
+
+import java.util.*;
+import com.github.refhumbold.algolib.graphs.TreeGraph;
+import com.github.refhumbold.algolib.graphs.Vertex;
+import com.github.refhumbold.algolib.graphs.algorithms.strategy.DfsStrategy;
+
+/**
+ * Structure of lowest common ancestors in a rooted tree based on range minimum queries over the
+ * Euler tour of the tree. Vertices are indexed in pre-order, so the lowest common ancestor of two
+ * vertices is the minimal index in the tour between their first occurrences. Minima are answered
+ * from a sparse table in constant time without allocating.
+ */
+public final class EulerTourLca<VertexId>
+{
+    private final List<Vertex<VertexId>> vertices;
+    private final Map<Vertex<VertexId>, Integer> indices;
+    private final int[] firstOccurrences;
+    // minimal index in the tour between positions i and i + 2^k - 1 at [k][i]
+    private final int[][] sparseTable;
+
+    private EulerTourLca(
+            List<Vertex<VertexId>> vertices,
+            Map<Vertex<VertexId>, Integer> indices,
+            int[] firstOccurrences,
+            int[][] sparseTable)
+    {
+        this.vertices = vertices;
+        this.indices = indices;
+        this.firstOccurrences = firstOccurrences;
+        this.sparseTable = sparseTable;
+    }
+
+    /**
+     * Builds the structure of lowest common ancestors for given tree rooted in given vertex.
+     * @param graph the tree graph
+     * @param root the root of the tree
+     * @return the structure of lowest common ancestors
+     */
+    public static <VertexId, VertexProperty, EdgeProperty> EulerTourLca<VertexId> build(
+            TreeGraph<VertexId, VertexProperty, EdgeProperty> graph, Vertex<VertexId> root)
+    {
+        TourStrategy<VertexId> strategy = new TourStrategy<>(graph.getVerticesCount());
+
+        Searching.dfsIterative(graph, strategy, List.of(root));
+
+        int tourLength = strategy.tourLength;
+        int levels = 32 - Integer.numberOfLeadingZeros(tourLength);
+        int[][] sparseTable = new int[levels][];
+
+        sparseTable[0] = Arrays.copyOf(strategy.tour, tourLength);
+
+        for(int k = 1; k < levels; ++k)
+        {
+            int[] previous = sparseTable[k - 1];
+            int half = 1 << k - 1;
+
+            sparseTable[k] = new int[tourLength - (1 << k) + 1];
+
+            for(int i = 0; i < sparseTable[k].length; ++i)
+                sparseTable[k][i] = Math.min(previous[i], previous[i + half]);
+        }
+
+        return new EulerTourLca<>(strategy.vertices, strategy.indices, strategy.firstOccurrences,
+                sparseTable);
+    }
+
+    /**
+     * Gets the root of the tree.
+     * @return the root vertex
+     */
+    public Vertex<VertexId> getRoot()
+    {
+        return vertices.getFirst();
+    }
+
+    /**
+     * Gets the index of given vertex, which is its position in pre-order of the tree.
+     * @param vertex the vertex
+     * @return the index of the vertex
+     * @throws IllegalArgumentException if the vertex is not in the tree
+     */
+    public int indexOf(Vertex<VertexId> vertex)
+    {
+        Integer index = indices.get(vertex);
+
+        if(index == null)
+            throw new IllegalArgumentException(
+                    "Vertex %s does not belong to the tree".formatted(vertex));
+
+        return index;
+    }
+
+    /**
+     * Gets the vertex with given index.
+     * @param index the index of vertex
+     * @return the vertex
+     */
+    public Vertex<VertexId> vertexAt(int index)
+    {
+        return vertices.get(index);
+    }
+
+    /**
+     * Searches for lowest common ancestor of given vertices in the rooted tree.
+     * @param vertex1 the first vertex
+     * @param vertex2 the second vertex
+     * @return the lowest common ancestor of the vertices
+     * @throws IllegalArgumentException if any vertex is not in the tree
+     */
+    public Vertex<VertexId> findLca(Vertex<VertexId> vertex1, Vertex<VertexId> vertex2)
+    {
+        return vertices.get(findLca(indexOf(vertex1), indexOf(vertex2)));
+    }
+
+    /**
+     * Searches for lowest common ancestor of vertices with given indices in the rooted tree.
+     * @param index1 the index of first vertex
+     * @param index2 the index of second vertex
+     * @return the index of lowest common ancestor of the vertices
+     */
+    public int findLca(int index1, int index2)
+    {
+        int begin = Math.min(firstOccurrences[index1], firstOccurrences[index2]);
+        int end = Math.max(firstOccurrences[index1], firstOccurrences[index2]);
+        int level = 31 - Integer.numberOfLeadingZeros(end - begin + 1);
+
+        return Math.min(sparseTable[level][begin], sparseTable[level][end - (1 << level) + 1]);
+    }
+
+    private static class TourStrategy<VertexId>
+            implements DfsStrategy<VertexId>
+    {
+        final List<Vertex<VertexId>> vertices;
+        final Map<Vertex<VertexId>, Integer> indices;
+        final int[] firstOccurrences;
+        final int[] parents;
+        final int[] tour;
+        int tourLength = 0;
+        private int nextParent = -1;
+
+        TourStrategy(int verticesCount)
+        {
+            vertices = new ArrayList<>(verticesCount);
+            indices = new HashMap<>();
+            firstOccurrences = new int[verticesCount];
+            parents = new int[verticesCount];
+            tour = new int[Math.max(1, 2 * verticesCount - 1)];
+        }
+
+        @Override
+        public void forRoot(Vertex<VertexId> root)
+        {
+            nextParent = -1;
+        }
+
+        @Override
+        public void onEntry(Vertex<VertexId> vertex)
+        {
+            int index = vertices.size();
+
+            vertices.add(vertex);
+            indices.put(vertex, index);
+            parents[index] = nextParent;
+            firstOccurrences[index] = tourLength;
+            tour[tourLength++] = index;
+        }
+
+        @Override
+        public void onNextVertex(Vertex<VertexId> vertex, Vertex<VertexId> neighbour)
+        {
+            nextParent = indices.get(vertex);
+        }
+
+        @Override
+        public void onExit(Vertex<VertexId> vertex)
+        {
+            int parent = parents[indices.get(vertex)];
+
+            if(parent >= 0)
+                tour[tourLength++] = parent;
+        }
+
+        @Override
+        public void onEdgeToVisited(Vertex<VertexId> vertex, Vertex<VertexId> neighbour)
+        {
+        }
+    }
+}
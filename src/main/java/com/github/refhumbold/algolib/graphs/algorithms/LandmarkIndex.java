@@ -0,0 +1,203 @@
+package com.github.refhumbold.algolib.graphs.algorithms;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.*;
+import java.util.stream.Collectors;
+import com.github.refhumbold.algolib.graphs.DirectedGraph;
+import com.github.refhumbold.algolib.graphs.Graph;
+import com.github.refhumbold.algolib.graphs.Vertex;
+import com.github.refhumbold.algolib.graphs.properties.Weighted;
+
+/**
+ * Structure of distances between all vertices and chosen landmarks of a weighted graph, used for
+ * A* queries with lower bounds from triangle inequality (ALT). Only identifiers of vertices and
+ * distances are stored, so the index can be serialized and used later with the same graph, as long
+ * as vertex identifiers are serializable.
+ */
+public final class LandmarkIndex<VertexId>
+        implements Serializable
+{
+    @Serial
+    private static final long serialVersionUID = 1L;
+    private final ArrayList<VertexId> landmarks;
+    private final HashMap<VertexId, Integer> indices;
+    // distances from each landmark and to each landmark, indexed by vertex
+    private final double[][] distancesFrom;
+    private final double[][] distancesTo;
+
+    private LandmarkIndex(
+            ArrayList<VertexId> landmarks,
+            HashMap<VertexId, Integer> indices,
+            double[][] distancesFrom,
+            double[][] distancesTo)
+    {
+        this.landmarks = landmarks;
+        this.indices = indices;
+        this.distancesFrom = distancesFrom;
+        this.distancesTo = distancesTo;
+    }
+
+    /**
+     * Builds index of given graph with given number of landmarks. Each next landmark is the vertex
+     * farthest from the landmarks chosen so far.
+     * @param graph the weighted graph with non-negative weights
+     * @param landmarksCount the number of landmarks
+     * @return the landmark index of the graph
+     * @throws IllegalArgumentException if the number of landmarks is not positive
+     */
+    public static <VertexId, VertexProperty, EdgeProperty extends Weighted> LandmarkIndex<VertexId> build(
+            Graph<VertexId, VertexProperty, EdgeProperty> graph, int landmarksCount)
+    {
+        if(landmarksCount <= 0)
+            throw new IllegalArgumentException(
+                    "Number of landmarks must be positive, but was %d".formatted(landmarksCount));
+
+        List<Vertex<VertexId>> vertices = new ArrayList<>(graph.getVertices());
+        List<Vertex<VertexId>> chosen = new ArrayList<>();
+        double[] nearest = new double[vertices.size()];
+
+        Arrays.fill(nearest, Weighted.INFINITY);
+
+        Vertex<VertexId> landmark = vertices.isEmpty() ? null : vertices.getFirst();
+
+        while(landmark != null && chosen.size() < landmarksCount)
+        {
+            Map<Vertex<VertexId>, Double> distances = ShortestPaths.dijkstra(graph, landmark);
+            double farthest = 0.0;
+
+            chosen.add(landmark);
+            landmark = null;
+
+            for(int i = 0; i < vertices.size(); ++i)
+            {
+                double distance = distances.get(vertices.get(i));
+
+                // unreachable vertices are chosen only after all reachable ones
+                nearest[i] = Math.min(nearest[i], distance < Weighted.INFINITY
+                                                  ? distance
+                                                  : Double.MAX_VALUE);
+
+                if(nearest[i] > farthest)
+                {
+                    farthest = nearest[i];
+                    landmark = vertices.get(i);
+                }
+            }
+        }
+
+        return build(graph, chosen);
+    }
+
+    /**
+     * Builds index of given graph with given landmarks.
+     * @param graph the weighted graph with non-negative weights
+     * @param landmarks the landmark vertices
+     * @return the landmark index of the graph
+     */
+    public static <VertexId, VertexProperty, EdgeProperty extends Weighted> LandmarkIndex<VertexId> build(
+            Graph<VertexId, VertexProperty, EdgeProperty> graph,
+            Collection<Vertex<VertexId>> landmarks)
+    {
+        List<Vertex<VertexId>> vertices = new ArrayList<>(graph.getVertices());
+        HashMap<VertexId, Integer> indices = new HashMap<>();
+        double[][] distancesFrom = new double[landmarks.size()][];
+        double[][] distancesTo = new double[landmarks.size()][];
+        int index = 0;
+
+        for(Vertex<VertexId> vertex : vertices)
+            indices.put(vertex.id(), indices.size());
+
+        for(Vertex<VertexId> landmark : landmarks)
+        {
+            distancesFrom[index] = toArray(vertices, ShortestPaths.dijkstra(graph, landmark));
+            distancesTo[index] =
+                    graph instanceof DirectedGraph<VertexId, VertexProperty, EdgeProperty> directedGraph
+                    ? toArray(vertices,
+                            ShortestPaths.dijkstra(directedGraph.reversedView(), landmark))
+                    : distancesFrom[index];
+            ++index;
+        }
+
+        return new LandmarkIndex<>(
+                landmarks.stream().map(Vertex::id).collect(Collectors.toCollection(ArrayList::new)),
+                indices, distancesFrom, distancesTo);
+    }
+
+    /**
+     * Gets the identifiers of landmarks in this index.
+     * @return the landmark identifiers
+     */
+    public List<VertexId> getLandmarks()
+    {
+        return Collections.unmodifiableList(landmarks);
+    }
+
+    /**
+     * Computes lower bound of distance between given vertices from distances to landmarks.
+     * @param source the source vertex
+     * @param target the target vertex
+     * @return the lower bound of distance from the source to the target
+     * @throws IllegalArgumentException if any vertex is not in this index
+     */
+    public double lowerBound(Vertex<VertexId> source, Vertex<VertexId> target)
+    {
+        return lowerBound(validateVertex(source), validateVertex(target));
+    }
+
+    /**
+     * Computes shortest path in given graph between given vertices using A* algorithm with
+     * landmark lower bounds. The graph must be the one this index was built for.
+     * @param graph the weighted graph with non-negative weights
+     * @param source the source vertex
+     * @param target the target vertex
+     * @return the shortest path from the source to the target
+     * @throws IllegalArgumentException if any vertex is not in this index
+     */
+    public <VertexProperty, EdgeProperty extends Weighted> Path<VertexId> findPath(
+            Graph<VertexId, VertexProperty, EdgeProperty> graph,
+            Vertex<VertexId> source,
+            Vertex<VertexId> target)
+    {
+        int targetIndex = validateVertex(target);
+
+        validateVertex(source);
+        return AStar.findPath(graph, source, target,
+                vertex -> lowerBound(validateVertex(vertex), targetIndex));
+    }
+
+    private double lowerBound(int source, int target)
+    {
+        double bound = 0.0;
+
+        for(int i = 0; i < landmarks.size(); ++i)
+        {
+            // d(L, t) <= d(L, s) + d(s, t)
+            if(distancesFrom[i][source] < Weighted.INFINITY)
+                bound = Math.max(bound, distancesFrom[i][target] - distancesFrom[i][source]);
+
+            // d(s, L) <= d(s, t) + d(t, L)
+            if(distancesTo[i][target] < Weighted.INFINITY)
+                bound = Math.max(bound, distancesTo[i][source] - distancesTo[i][target]);
+        }
+
+        return bound;
+    }
+
+    private int validateVertex(Vertex<VertexId> vertex)
+    {
+        Integer index = indices.get(vertex.id());
+
+        if(index == null)
+            throw new IllegalArgumentException(
+                    "Vertex %s does not belong to this index".formatted(vertex));
+
+        return index;
+    }
+
+    private static <VertexId> double[] toArray(
+            List<Vertex<VertexId>> vertices, Map<Vertex<VertexId>, Double> distances)
+    {
+        return vertices.stream().mapToDouble(distances::get).toArray();
+    }
+}
@@ -1,22 +1,21 @@
 package com.github.refhumbold.algolib.graphs.algorithms;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import com.github.refhumbold.algolib.graphs.TreeGraph;
 import com.github.refhumbold.algolib.graphs.Vertex;
 import com.github.refhumbold.algolib.graphs.algorithms.strategy.DfsStrategy;
+import com.github.refhumbold.algolib.structures.DisjointSets;
+import com.github.refhumbold.algolib.tuples.Pair;
 
-/** Algorithm for lowest common ancestors in a rooted tree. */
+/**
+ * Algorithm for lowest common ancestors in a rooted tree. The structure is built eagerly and is
+ * immutable afterwards, so it can be shared by many threads with no locking.
+ */
 public final class LowestCommonAncestor<VertexId, VertexProperty, EdgeProperty>
 {
     public final TreeGraph<VertexId, VertexProperty, EdgeProperty> graph;
     public final Vertex<VertexId> root;
-    private final Map<Vertex<VertexId>, List<Vertex<VertexId>>> paths = new HashMap<>();
-    private final LcaStrategy<VertexId> strategy = new LcaStrategy<>();
-    private boolean empty = true;
+    private final EulerTourLca<VertexId> eulerTourLca;
 
     public LowestCommonAncestor(
             TreeGraph<VertexId, VertexProperty, EdgeProperty> graph,
@@ -24,6 +23,7 @@ public final class LowestCommonAncestor<VertexId, VertexProperty, EdgeProperty>
     {
         this.graph = graph;
         this.root = root;
+        eulerTourLca = EulerTourLca.build(graph, root);
     }
 
     /**
@@ -31,75 +31,79 @@ public final class LowestCommonAncestor<VertexId, VertexProperty, EdgeProperty>
      * @param vertex1 the first vertex
      * @param vertex2 the second vertex
      * @return the lowest common ancestor of the vertices
+     * @throws IllegalArgumentException if any vertex is not in the tree
      */
     public Vertex<VertexId> findLca(Vertex<VertexId> vertex1, Vertex<VertexId> vertex2)
     {
-        if(empty)
-            initialize();
-
-        return find(vertex1, vertex2);
+        return eulerTourLca.findLca(vertex1, vertex2);
     }
 
-    private Vertex<VertexId> find(Vertex<VertexId> vertex1, Vertex<VertexId> vertex2)
+    /**
+     * Searches for lowest common ancestors of all given pairs of vertices in given rooted tree
+     * using Tarjan's offline algorithm. All queries are answered during a single depth-first
+     * search with disjoint sets of visited subtrees.
+     * @param graph the tree graph
+     * @param root the root of the tree
+     * @param queries the pairs of vertices, for example {@code stream::iterator} of a stream
+     * @return the lowest common ancestors of the pairs in order of queries
+     * @throws IllegalArgumentException if any vertex is not in the tree
+     */
+    public static <VertexId, VertexProperty, EdgeProperty> List<Vertex<VertexId>> findLcaOffline(
+            TreeGraph<VertexId, VertexProperty, EdgeProperty> graph,
+            Vertex<VertexId> root,
+            Iterable<Pair<Vertex<VertexId>, Vertex<VertexId>>> queries)
     {
-        if(isOffspring(vertex1, vertex2))
-            return vertex2;
-
-        if(isOffspring(vertex2, vertex1))
-            return vertex1;
+        List<Pair<Vertex<VertexId>, Vertex<VertexId>>> queriesList = new ArrayList<>();
 
-        List<Vertex<VertexId>> candidates = new ArrayList<>(paths.get(vertex1));
+        queries.forEach(queriesList::add);
 
-        Collections.reverse(candidates);
-
-        Vertex<VertexId> nextVertex = candidates.stream()
-                                                .filter(candidate -> !isOffspring(vertex2,
-                                                        candidate))
-                                                .findFirst()
-                                                .orElse(paths.get(vertex1).getFirst());
-
-        return find(nextVertex, vertex2);
-    }
-
-    private void initialize()
-    {
-        Searching.dfsRecursive(graph, strategy, List.of(root));
+        OfflineLcaStrategy<VertexId> offlineStrategy = new OfflineLcaStrategy<>(queriesList);
 
-        for(Vertex<VertexId> vertex : graph.getVertices())
-            paths.put(vertex, new ArrayList<>(List.of(strategy.parents.get(vertex))));
+        Searching.dfsIterative(graph, offlineStrategy, List.of(root));
 
-        for(int i = 0; i < Math.log(graph.getVerticesCount()) / Math.log(2) + 3; ++i)
-            for(Vertex<VertexId> vertex : graph.getVertices())
-                paths.get(vertex).add(paths.get(paths.get(vertex).get(i)).get(i));
+        for(int i = 0; i < queriesList.size(); ++i)
+            if(offlineStrategy.answers.get(i) == null)
+                throw new IllegalArgumentException(
+                        "Vertices %s and %s do not both belong to the tree".formatted(
+                                queriesList.get(i).first, queriesList.get(i).second));
 
-        empty = false;
+        return offlineStrategy.answers;
     }
 
-    private boolean isOffspring(Vertex<VertexId> vertex1, Vertex<VertexId> vertex2)
-    {
-        return strategy.preTimes.get(vertex1) >= strategy.preTimes.get(vertex2)
-                && strategy.postTimes.get(vertex1) <= strategy.postTimes.get(vertex2);
-    }
-
-    private static class LcaStrategy<VertexId>
+    private static class OfflineLcaStrategy<VertexId>
             implements DfsStrategy<VertexId>
     {
-        final Map<Vertex<VertexId>, Vertex<VertexId>> parents = new HashMap<>();
-        final Map<Vertex<VertexId>, Integer> preTimes = new HashMap<>();
-        final Map<Vertex<VertexId>, Integer> postTimes = new HashMap<>();
-        private int timer = 0;
+        final List<Vertex<VertexId>> answers;
+        private final List<Pair<Vertex<VertexId>, Vertex<VertexId>>> queries;
+        private final Map<Vertex<VertexId>, List<Integer>> queryIndices = new HashMap<>();
+        private final Map<Vertex<VertexId>, Vertex<VertexId>> parents = new HashMap<>();
+        // the ancestor of each subtree represented in disjoint sets
+        private final Map<Vertex<VertexId>, Vertex<VertexId>> ancestors = new HashMap<>();
+        private final Set<Vertex<VertexId>> exited = new HashSet<>();
+        private final DisjointSets<Vertex<VertexId>> subtrees = new DisjointSets<>();
+
+        OfflineLcaStrategy(List<Pair<Vertex<VertexId>, Vertex<VertexId>>> queries)
+        {
+            this.queries = queries;
+            answers = new ArrayList<>(Collections.nCopies(queries.size(), null));
+
+            for(int i = 0; i < queries.size(); ++i)
+            {
+                queryIndices.computeIfAbsent(queries.get(i).first, k -> new ArrayList<>()).add(i);
+                queryIndices.computeIfAbsent(queries.get(i).second, k -> new ArrayList<>()).add(i);
+            }
+        }
 
         @Override
         public void forRoot(Vertex<VertexId> root)
         {
-            parents.put(root, root);
         }
 
         @Override
         public void onEntry(Vertex<VertexId> vertex)
         {
-            preTimes.put(vertex, timer);
-            ++timer;
+            subtrees.add(List.of(vertex));
+            ancestors.put(vertex, vertex);
         }
 
         @Override
@@ -111,8 +115,24 @@ public final class LowestCommonAncestor<VertexId, VertexProperty, EdgeProperty>
         @Override
         public void onExit(Vertex<VertexId> vertex)
         {
-            postTimes.put(vertex, timer);
-            ++timer;
+            exited.add(vertex);
+
+            for(int index : queryIndices.getOrDefault(vertex, List.of()))
+            {
+                Pair<Vertex<VertexId>, Vertex<VertexId>> query = queries.get(index);
+                Vertex<VertexId> other = vertex.equals(query.first) ? query.second : query.first;
+
+                if(exited.contains(other))
+                    answers.set(index, ancestors.get(subtrees.findSet(other)));
+            }
+
+            Vertex<VertexId> parent = parents.get(vertex);
+
+            if(parent != null)
+            {
+                subtrees.unionSet(vertex, parent);
+                ancestors.put(subtrees.findSet(parent), parent);
+            }
         }
 
         @Override
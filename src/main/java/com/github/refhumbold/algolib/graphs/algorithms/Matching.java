@@ -1,8 +1,8 @@
 package com.github.refhumbold.algolib.graphs.algorithms;
 
 import java.util.*;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import com.github.refhumbold.algolib.graphs.CompactUndirectedGraph;
+import com.github.refhumbold.algolib.graphs.IntGraph;
 import com.github.refhumbold.algolib.graphs.MultipartiteGraph;
 import com.github.refhumbold.algolib.graphs.Vertex;
 
@@ -17,101 +17,186 @@ public final class Matching
     public static <VertexId, VertexProperty, EdgeProperty> Map<Vertex<VertexId>, Vertex<VertexId>> match(
             MultipartiteGraph<VertexId, VertexProperty, EdgeProperty> graph)
     {
-        MatchAugmenter<VertexId, VertexProperty, EdgeProperty> augmenter =
-                new MatchAugmenter<>(graph);
+        if(graph.groupsCount != 2)
+            throw new IllegalArgumentException("Graph is not bipartite");
+
+        CompactUndirectedGraph<VertexId, VertexProperty, EdgeProperty> compactGraph =
+                new CompactUndirectedGraph<>(graph);
+        int[] mates = matchIndices(compactGraph, graph.getVerticesFromGroup(1)
+                                                      .stream()
+                                                      .mapToInt(compactGraph::indexOf)
+                                                      .toArray());
+        Map<Vertex<VertexId>, Vertex<VertexId>> matching = new HashMap<>();
+
+        for(int vertex = 0; vertex < mates.length; ++vertex)
+            if(mates[vertex] >= 0)
+                matching.put(compactGraph.vertexAt(vertex), compactGraph.vertexAt(mates[vertex]));
+
+        return matching;
+    }
+
+    /**
+     * Computes maximal matching in given bipartite graph with integer vertices. Every edge of the
+     * graph must connect a vertex from given group with a vertex outside of it.
+     * @param graph the bipartite graph with integer vertices
+     * @param groupVertices the indices of vertices in one group of the graph
+     * @return the indices of matched vertices indexed by vertex index, or {@code -1} for
+     * unmatched vertices
+     */
+    public static int[] matchIndices(IntGraph graph, int... groupVertices)
+    {
+        MatchAugmenter augmenter = new MatchAugmenter(graph, groupVertices);
         boolean wasAugmented = true;
 
         while(wasAugmented)
             wasAugmented = augmenter.augmentMatch();
 
-        return augmenter.matching;
+        return augmenter.mates;
     }
 
-    private static final class MatchAugmenter<VertexId, VertexProperty, EdgeProperty>
+    private static final class MatchAugmenter
     {
-        private static final double INFINITY = Double.POSITIVE_INFINITY;
-        final Map<Vertex<VertexId>, Vertex<VertexId>> matching = new HashMap<>();
-        private final MultipartiteGraph<VertexId, VertexProperty, EdgeProperty> graph;
-
-        private MatchAugmenter(MultipartiteGraph<VertexId, VertexProperty, EdgeProperty> graph)
+        private static final int INFINITY = Integer.MAX_VALUE;
+        final int[] mates;
+        private final IntGraph graph;
+        private final int[] groupVertices;
+        private final int[] distances;
+        private final int[] vertexQueue;
+        // vertices on the augmenting path and the neighbours chosen for them
+        private final int[] pathVertices;
+        private final int[] pathNeighbours;
+        // cursors are reused by all vertices at the same depth
+        private final List<IntGraph.NeighbourCursor> cursors = new ArrayList<>();
+
+        private MatchAugmenter(IntGraph graph, int[] groupVertices)
         {
-            if(graph.groupsCount != 2)
-                throw new IllegalArgumentException("Graph is not bipartite");
+            int verticesCount = graph.getVerticesCount();
 
             this.graph = graph;
+            this.groupVertices = groupVertices;
+            mates = new int[verticesCount];
+            distances = new int[verticesCount];
+            vertexQueue = new int[groupVertices.length];
+            pathVertices = new int[groupVertices.length];
+            pathNeighbours = new int[groupVertices.length];
+            Arrays.fill(mates, -1);
         }
 
         boolean augmentMatch()
         {
-            Set<Vertex<VertexId>> visited = new HashSet<>();
-            Map<Vertex<VertexId>, Double> distances = graph.getVertices()
-                                                           .stream()
-                                                           .collect(Collectors.toMap(
-                                                                   Function.identity(),
-                                                                   vertex -> INFINITY));
-
-            bfs(distances);
-            return unmatchedVertices().stream()
-                                      .reduce(false, (acc, v) -> dfs(v, visited, distances) || acc,
-                                              (b1, b2) -> b1 || b2);
-        }
+            boolean wasAugmented = false;
 
-        private Collection<Vertex<VertexId>> unmatchedVertices()
-        {
-            return graph.getVerticesFromGroup(1)
-                        .stream()
-                        .filter(v -> !matching.containsKey(v))
-                        .collect(Collectors.toSet());
+            if(!bfs())
+                return false;
+
+            for(int vertex : groupVertices)
+                if(mates[vertex] < 0)
+                    wasAugmented |= dfs(vertex);
+
+            return wasAugmented;
         }
 
-        private void bfs(Map<Vertex<VertexId>, Double> distances)
+        // Computes layers of alternating paths and checks whether any free vertex was reached.
+        private boolean bfs()
         {
-            Deque<Vertex<VertexId>> vertexDeque = new ArrayDeque<>();
+            int queueBegin = 0;
+            int queueEnd = 0;
+            int freeDistance = INFINITY;
 
-            for(Vertex<VertexId> vertex : unmatchedVertices())
-            {
-                distances.put(vertex, 0.0);
-                vertexDeque.addLast(vertex);
-            }
+            for(int vertex : groupVertices)
+                if(mates[vertex] < 0)
+                {
+                    distances[vertex] = 0;
+                    vertexQueue[queueEnd++] = vertex;
+                }
+                else
+                    distances[vertex] = INFINITY;
 
-            while(!vertexDeque.isEmpty())
+            while(queueBegin < queueEnd)
             {
-                Vertex<VertexId> vertex = vertexDeque.removeFirst();
+                int vertex = vertexQueue[queueBegin++];
 
-                for(Vertex<VertexId> neighbour : graph.getNeighbours(vertex))
+                if(distances[vertex] >= freeDistance)
+                    continue;
+
+                IntGraph.NeighbourCursor cursor = cursor(0);
+
+                cursor.reset(vertex);
+
+                while(cursor.hasNext())
                 {
-                    Vertex<VertexId> matched = matching.get(neighbour);
+                    int matched = mates[cursor.next()];
 
-                    if(matched != null && distances.get(matched) == INFINITY)
+                    if(matched < 0)
+                        freeDistance = Math.min(freeDistance, distances[vertex] + 1);
+                    else if(distances[matched] == INFINITY)
                     {
-                        distances.put(matched, distances.get(vertex) + 1);
-                        vertexDeque.addLast(matched);
+                        distances[matched] = distances[vertex] + 1;
+                        vertexQueue[queueEnd++] = matched;
                     }
                 }
             }
+
+            return freeDistance != INFINITY;
         }
 
-        private boolean dfs(
-                Vertex<VertexId> vertex,
-                Set<Vertex<VertexId>> visited,
-                Map<Vertex<VertexId>, Double> distances)
+        // Searches for an augmenting path from given free vertex along the layers.
+        private boolean dfs(int root)
         {
-            visited.add(vertex);
+            int depth = 0;
 
-            for(Vertex<VertexId> neighbour : graph.getNeighbours(vertex))
+            pathVertices[depth] = root;
+            cursor(depth++).reset(root);
+
+            while(depth > 0)
             {
-                Vertex<VertexId> matched = matching.get(neighbour);
+                int vertex = pathVertices[depth - 1];
+                IntGraph.NeighbourCursor cursor = cursors.get(depth - 1);
 
-                if(matched == null || (!visited.contains(matched) && (distances.get(matched) == (
-                        distances.get(vertex) + 1)) && dfs(matched, visited, distances)))
+                if(!cursor.hasNext())
                 {
-                    matching.put(vertex, neighbour);
-                    matching.put(neighbour, vertex);
+                    // no augmenting path goes through this vertex in current phase
+                    distances[vertex] = INFINITY;
+                    --depth;
+                    continue;
+                }
+
+                int neighbour = cursor.next();
+                int matched = mates[neighbour];
+
+                pathNeighbours[depth - 1] = neighbour;
+
+                if(matched < 0)
+                {
+                    augment(depth);
                     return true;
                 }
+
+                if(distances[matched] == distances[vertex] + 1)
+                {
+                    pathVertices[depth] = matched;
+                    cursor(depth++).reset(matched);
+                }
             }
 
             return false;
         }
+
+        private void augment(int depth)
+        {
+            for(int i = 0; i < depth; ++i)
+            {
+                mates[pathVertices[i]] = pathNeighbours[i];
+                mates[pathNeighbours[i]] = pathVertices[i];
+            }
+        }
+
+        private IntGraph.NeighbourCursor cursor(int depth)
+        {
+            if(depth == cursors.size())
+                cursors.add(graph.neighbourCursor());
+
+            return cursors.get(depth);
+        }
     }
 }
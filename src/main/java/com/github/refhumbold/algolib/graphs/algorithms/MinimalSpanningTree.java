@@ -12,7 +12,6 @@ import com.github.refhumbold.algolib.graphs.UndirectedSimpleGraph;
 import com.github.refhumbold.algolib.graphs.Vertex;
 import com.github.refhumbold.algolib.graphs.properties.Weighted;
 import com.github.refhumbold.algolib.structures.DisjointSets;
-import com.github.refhumbold.algolib.tuples.Pair;
 
 /** Algorithms for minimal spanning tree. */
 public final class MinimalSpanningTree
@@ -30,14 +29,15 @@ public final class MinimalSpanningTree
                         graph.getVertices().stream().map(Vertex::id).collect(Collectors.toList()));
         DisjointSets<Vertex<VertexId>> vertexSets =
                 new DisjointSets<>(graph.getVertices().stream().map(List::of).toList());
-        PriorityQueue<Edge<VertexId>> edgeQueue = new PriorityQueue<>(
-                Comparator.comparingDouble(edge -> graph.getProperties().get(edge).getWeight()));
+        PriorityQueue<QueueEntry<VertexId>> edgeQueue =
+                new PriorityQueue<>(Comparator.comparingDouble(QueueEntry::weight));
 
-        edgeQueue.addAll(graph.getEdges());
+        EdgeWeights.of(graph).forEachEdge((edge, weight) -> edgeQueue.add(
+                new QueueEntry<>(weight, edge, edge.destination())));
 
         while(vertexSets.size() > 1 && !edgeQueue.isEmpty())
         {
-            Edge<VertexId> edge = edgeQueue.remove();
+            Edge<VertexId> edge = edgeQueue.remove().edge;
 
             if(!vertexSets.isSameSet(edge.source(), edge.destination()))
                 mst.addEdge(edge, graph.getProperties().get(edge));
@@ -62,42 +62,48 @@ public final class MinimalSpanningTree
                 new UndirectedSimpleGraph<>(
                         graph.getVertices().stream().map(Vertex::id).collect(Collectors.toList()));
         Set<Vertex<VertexId>> visited = new HashSet<>();
-        PriorityQueue<Pair<Edge<VertexId>, Vertex<VertexId>>> queue = new PriorityQueue<>(
-                Comparator.comparingDouble(
-                        pair -> graph.getProperties().get(pair.first).getWeight()));
+        EdgeWeights.Cursor<VertexId> cursor = EdgeWeights.of(graph).adjacentCursor();
+        PriorityQueue<QueueEntry<VertexId>> queue =
+                new PriorityQueue<>(Comparator.comparingDouble(QueueEntry::weight));
 
         visited.add(source);
+        cursor.reset(source);
 
-        for(Edge<VertexId> adjacentEdge : graph.getAdjacentEdges(source))
+        while(cursor.hasNext())
         {
+            Edge<VertexId> adjacentEdge = cursor.next();
             Vertex<VertexId> neighbour = adjacentEdge.getNeighbour(source);
 
             if(neighbour != source)
-                queue.add(Pair.of(adjacentEdge, neighbour));
+                queue.add(new QueueEntry<>(cursor.weight(), adjacentEdge, neighbour));
         }
 
         while(!queue.isEmpty())
         {
-            Edge<VertexId> edge = queue.element().first;
-            Vertex<VertexId> vertex = queue.element().second;
+            QueueEntry<VertexId> entry = queue.remove();
 
-            queue.remove();
-
-            if(!visited.contains(vertex))
+            if(!visited.contains(entry.vertex))
             {
-                visited.add(vertex);
-                mst.addEdge(edge, graph.getProperties().get(edge));
+                visited.add(entry.vertex);
+                mst.addEdge(entry.edge, graph.getProperties().get(entry.edge));
+                cursor.reset(entry.vertex);
 
-                for(Edge<VertexId> adjacentEdge : graph.getAdjacentEdges(vertex))
+                while(cursor.hasNext())
                 {
-                    Vertex<VertexId> neighbour = adjacentEdge.getNeighbour(vertex);
+                    Edge<VertexId> adjacentEdge = cursor.next();
+                    Vertex<VertexId> neighbour = adjacentEdge.getNeighbour(entry.vertex);
 
                     if(!visited.contains(neighbour))
-                        queue.add(Pair.of(adjacentEdge, neighbour));
+                        queue.add(new QueueEntry<>(cursor.weight(), adjacentEdge, neighbour));
                 }
             }
         }
 
         return mst;
     }
+
+    // Edge with its weight and the vertex it leads to.
+    private record QueueEntry<VertexId>(double weight, Edge<VertexId> edge, Vertex<VertexId> vertex)
+    {
+    }
 }
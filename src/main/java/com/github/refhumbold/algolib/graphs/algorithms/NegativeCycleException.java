@@ -0,0 +1,28 @@
+package com.github.refhumbold.algolib.graphs.algorithms;
+
+import java.io.Serial;
+import java.util.List;
+import com.github.refhumbold.algolib.graphs.Edge;
+
+public class NegativeCycleException
+        extends IllegalStateException
+{
+    @Serial private static final long serialVersionUID = -6372937466021857394L;
+    private final transient List<? extends Edge<?>> cycle;
+
+    public NegativeCycleException(String s, List<? extends Edge<?>> cycle)
+    {
+        super(s);
+        this.cycle = List.copyOf(cycle);
+    }
+
+    /**
+     * Gets the edges of the negative cycle in order along the cycle.
+     * @return the edges of the cycle
+     */
+    @SuppressWarnings("unchecked")
+    public <VertexId> List<Edge<VertexId>> getCycle()
+    {
+        return (List<Edge<VertexId>>)cycle;
+    }
+}
@@ -0,0 +1,30 @@
+package com.github.refhumbold.algolib.graphs.algorithms;
+
+import java.util.List;
+import com.github.refhumbold.algolib.graphs.Edge;
+import com.github.refhumbold.algolib.graphs.properties.Weighted;
+
+/**
+ * Structure of path in a weighted graph. Edges are listed in order from the source, each as stored
+ * in the graph, so in undirected graphs an edge may point against the path direction.
+ */
+public record Path<VertexId>(List<Edge<VertexId>> edges, double length)
+{
+    /**
+     * Creates an empty path that represents an unreachable target.
+     * @return the path with no edges and infinite length
+     */
+    public static <VertexId> Path<VertexId> unreachable()
+    {
+        return new Path<>(List.of(), Weighted.INFINITY);
+    }
+
+    /**
+     * Checks whether this path reaches its target.
+     * @return {@code true} if the path has finite length, otherwise {@code false}
+     */
+    public boolean isReachable()
+    {
+        return length < Weighted.INFINITY;
+    }
+}
@@ -0,0 +1,148 @@
+package com.github.refhumbold.algolib.graphs.algorithms;
+
+import java.util.*;
+import java.util.function.ToDoubleFunction;
+import com.github.refhumbold.algolib.graphs.Edge;
+import com.github.refhumbold.algolib.graphs.Graph;
+import com.github.refhumbold.algolib.graphs.Vertex;
+import com.github.refhumbold.algolib.graphs.properties.Weighted;
+import com.github.refhumbold.algolib.structures.heaps.IndexedHeap;
+
+/**
+ * Shortest path search from a single vertex that keeps state only for the vertices it reaches.
+ * Point-to-point queries usually stop after exploring a small part of the graph, so unlike full
+ * Dijkstra algorithm, which allocates arrays for all vertices, this search costs in proportion to
+ * the explored part only. Reached vertices get consecutive local indices, which key their
+ * distances and the indexed heap of queued vertices, and both grow together with them.
+ * Vertices are taken in order of distance plus heuristic estimate, and a vertex is taken again
+ * whenever its distance decreases later, so any admissible heuristic gives shortest paths.
+ */
+class PathSearch<VertexId>
+{
+    private static final int INITIAL_CAPACITY = 16;
+    private final ToDoubleFunction<Vertex<VertexId>> heuristic;
+    private final Map<Vertex<VertexId>, Integer> indices = new HashMap<>();
+    private final List<Vertex<VertexId>> vertices = new ArrayList<>();
+    private final List<Edge<VertexId>> predecessors = new ArrayList<>();
+    private double[] distances = new double[INITIAL_CAPACITY];
+    private double[] estimates = new double[INITIAL_CAPACITY];
+    private IndexedHeap vertexHeap = new IndexedHeap(INITIAL_CAPACITY);
+
+    PathSearch(Vertex<VertexId> source)
+    {
+        this(source, vertex -> 0.0);
+    }
+
+    PathSearch(Vertex<VertexId> source, ToDoubleFunction<Vertex<VertexId>> heuristic)
+    {
+        this.heuristic = heuristic;
+        update(indexOf(source), 0.0, null);
+    }
+
+    static <VertexId> void validateVertex(Graph<VertexId, ?, ?> graph, Vertex<VertexId> vertex)
+    {
+        if(!vertex.equals(graph.getVertex(vertex.id())))
+            throw new IllegalArgumentException(
+                    "Vertex %s does not belong to this graph".formatted(vertex));
+    }
+
+    double distance(Vertex<VertexId> vertex)
+    {
+        Integer index = indices.get(vertex);
+
+        return index == null ? Weighted.INFINITY : distances[index];
+    }
+
+    // Gets the priority of the next vertex to take.
+    double peekPriority()
+    {
+        return vertexHeap.isEmpty()
+               ? Weighted.INFINITY
+               : vertexHeap.getPriority(vertexHeap.element());
+    }
+
+    Vertex<VertexId> next()
+    {
+        return vertices.get(vertexHeap.remove());
+    }
+
+    Vertex<VertexId> relax(Vertex<VertexId> vertex, Edge<VertexId> edge, double weight)
+    {
+        if(weight < 0.0)
+            throw new IllegalStateException("Graph contains an edge with negative weight.");
+
+        Vertex<VertexId> neighbour = edge.getNeighbour(vertex);
+        double distance = distances[indices.get(vertex)] + weight;
+        int neighbourIndex = indexOf(neighbour);
+
+        if(distance < distances[neighbourIndex])
+            update(neighbourIndex, distance, edge);
+
+        return neighbour;
+    }
+
+    // Gets the edges from the source of this search to given vertex.
+    List<Edge<VertexId>> pathTo(Vertex<VertexId> vertex)
+    {
+        List<Edge<VertexId>> edges = new ArrayList<>();
+        Integer index = indices.get(vertex);
+
+        while(index != null && predecessors.get(index) != null)
+        {
+            Edge<VertexId> edge = predecessors.get(index);
+
+            edges.add(edge);
+            vertex = edge.getNeighbour(vertex);
+            index = indices.get(vertex);
+        }
+
+        Collections.reverse(edges);
+        return edges;
+    }
+
+    // Gets the local index of given vertex, reaching the vertex if it is new to this search.
+    private int indexOf(Vertex<VertexId> vertex)
+    {
+        Integer index = indices.get(vertex);
+
+        if(index != null)
+            return index;
+
+        int newIndex = vertices.size();
+
+        if(newIndex == distances.length)
+            grow();
+
+        indices.put(vertex, newIndex);
+        vertices.add(vertex);
+        predecessors.add(null);
+        distances[newIndex] = Weighted.INFINITY;
+        estimates[newIndex] = heuristic.applyAsDouble(vertex);
+        return newIndex;
+    }
+
+    private void update(int index, double distance, Edge<VertexId> edge)
+    {
+        distances[index] = distance;
+        predecessors.set(index, edge);
+
+        if(vertexHeap.contains(index))
+            vertexHeap.decreaseKey(index, distance + estimates[index]);
+        else
+            vertexHeap.add(index, distance + estimates[index]);
+    }
+
+    // Doubles the capacity for reached vertices, moving queued vertices to a larger heap.
+    private void grow()
+    {
+        IndexedHeap newHeap = new IndexedHeap(2 * distances.length);
+
+        for(int i = 0; i < distances.length; ++i)
+            if(vertexHeap.contains(i))
+                newHeap.add(i, vertexHeap.getPriority(i));
+
+        distances = Arrays.copyOf(distances, 2 * distances.length);
+        estimates = Arrays.copyOf(estimates, 2 * estimates.length);
+        vertexHeap = newHeap;
+    }
+}
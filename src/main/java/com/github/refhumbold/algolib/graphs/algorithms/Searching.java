@@ -1,10 +1,18 @@
 package com.github.refhumbold.algolib.graphs.algorithms;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 import com.github.refhumbold.algolib.graphs.Graph;
+import com.github.refhumbold.algolib.graphs.IntGraph;
 import com.github.refhumbold.algolib.graphs.Vertex;
 import com.github.refhumbold.algolib.graphs.algorithms.strategy.BfsStrategy;
 import com.github.refhumbold.algolib.graphs.algorithms.strategy.DfsStrategy;
+import com.github.refhumbold.algolib.graphs.algorithms.strategy.IntBfsStrategy;
+import com.github.refhumbold.algolib.graphs.algorithms.strategy.IntDfsStrategy;
+import com.github.refhumbold.algolib.graphs.algorithms.strategy.SearchAction;
 
 /** Algorithms for graph searching. */
 public final class Searching
@@ -37,13 +45,19 @@ public final class Searching
 
                     strategy.onEntry(vertex);
 
-                    for(Vertex<VertexId> neighbour : graph.getNeighbours(vertex))
-                        if(!reached.contains(neighbour))
-                        {
-                            strategy.onNextVertex(vertex, neighbour);
-                            reached.add(neighbour);
-                            vertexDeque.addLast(neighbour);
-                        }
+                    SearchAction action = strategy.afterEntry(vertex);
+
+                    if(action == SearchAction.STOP)
+                        return reached;
+
+                    if(action == SearchAction.CONTINUE)
+                        for(Vertex<VertexId> neighbour : graph.getNeighbours(vertex))
+                            if(!reached.contains(neighbour))
+                            {
+                                strategy.onNextVertex(vertex, neighbour);
+                                reached.add(neighbour);
+                                vertexDeque.addLast(neighbour);
+                            }
 
                     strategy.onExit(vertex);
                 }
@@ -53,7 +67,8 @@ public final class Searching
     }
 
     /**
-     * Iterative depth-first search algorithm.
+     * Iterative depth-first search algorithm, which calls the strategy in the same order as the
+     * recursive algorithm.
      * @param graph the graph
      * @param strategy the searching strategy
      * @param roots the starting vertices
@@ -64,43 +79,48 @@ public final class Searching
             DfsStrategy<VertexId> strategy,
             Collection<Vertex<VertexId>> roots)
     {
-        Map<Vertex<VertexId>, Integer> reached = new HashMap<>();
-        Deque<Vertex<VertexId>> vertexDeque = new ArrayDeque<>();
-        int iteration = 1;
+        DfsState<VertexId> state = new DfsState<>();
+        Deque<DfsFrame<VertexId>> frameStack = new ArrayDeque<>();
 
         for(Vertex<VertexId> root : roots)
-            if(!reached.containsKey(root))
+            if(!state.reached.containsKey(root))
             {
                 strategy.forRoot(root);
-                vertexDeque.addFirst(root);
 
-                while(!vertexDeque.isEmpty())
+                if(dfsEnter(graph, strategy, state, frameStack, root) == SearchAction.STOP)
+                    return state.reached.keySet();
+
+                while(!frameStack.isEmpty())
                 {
-                    Vertex<VertexId> vertex = vertexDeque.removeFirst();
+                    DfsFrame<VertexId> frame = frameStack.getFirst();
 
-                    if(!reached.containsKey(vertex))
+                    if(frame.neighbours().hasNext())
                     {
-                        reached.put(vertex, iteration);
-                        strategy.onEntry(vertex);
+                        Vertex<VertexId> neighbour = frame.neighbours().next();
 
-                        for(Vertex<VertexId> neighbour : graph.getNeighbours(vertex))
-                            if(!reached.containsKey(neighbour))
-                            {
-                                strategy.onNextVertex(vertex, neighbour);
-                                vertexDeque.addFirst(neighbour);
-                            }
-                            else if(reached.get(neighbour) == iteration)
-                                strategy.onEdgeToVisited(vertex, neighbour);
+                        if(!state.reached.containsKey(neighbour))
+                        {
+                            strategy.onNextVertex(frame.vertex(), neighbour);
 
-                        strategy.onExit(vertex);
-                        reached.put(root, -iteration);
+                            if(dfsEnter(graph, strategy, state, frameStack, neighbour)
+                                    == SearchAction.STOP)
+                                return state.reached.keySet();
+                        }
+                        else if(state.reached.get(neighbour) == state.iteration)
+                            strategy.onEdgeToVisited(frame.vertex(), neighbour);
+                    }
+                    else
+                    {
+                        strategy.onExit(frame.vertex());
+                        state.onExit(frame.vertex());
+                        frameStack.removeFirst();
                     }
                 }
 
-                ++iteration;
+                ++state.iteration;
             }
 
-        return reached.keySet();
+        return state.reached.keySet();
     }
 
     /**
@@ -115,7 +135,7 @@ public final class Searching
             DfsStrategy<VertexId> strategy,
             Collection<Vertex<VertexId>> roots)
     {
-        DfsRecursiveState<VertexId> state = new DfsRecursiveState<>();
+        DfsState<VertexId> state = new DfsState<>();
 
         for(Vertex<VertexId> root : roots)
             if(!state.reached.containsKey(root))
@@ -123,41 +143,309 @@ public final class Searching
                 strategy.forRoot(root);
                 state.vertex = root;
                 dfsRecursiveStep(graph, strategy, state);
+
+                if(state.isStopped)
+                    break;
+
                 ++state.iteration;
             }
 
         return state.reached.keySet();
     }
 
-    // Single step of recursive DFS.
-    private static <VertexId, VertexProperty, EdgeProperty> void dfsRecursiveStep(
+    /**
+     * Breadth-first search algorithm.
+     * @param graph the graph with integer vertices
+     * @param strategy the searching strategy
+     * @param roots the starting vertices
+     * @return the visited vertices
+     */
+    public static BitSet bfs(IntGraph graph, IntBfsStrategy strategy, int... roots)
+    {
+        BitSet reached = new BitSet(graph.getVerticesCount());
+        IntGraph.NeighbourCursor cursor = graph.neighbourCursor();
+        // every vertex is added at most once, so a single array serves all roots
+        int[] vertexQueue = new int[graph.getVerticesCount()];
+        int queueBegin = 0;
+        int queueEnd = 0;
+
+        for(int root : roots)
+            if(!reached.get(root))
+            {
+                strategy.forRoot(root);
+                vertexQueue[queueEnd++] = root;
+                reached.set(root);
+
+                while(queueBegin < queueEnd)
+                {
+                    int vertex = vertexQueue[queueBegin++];
+
+                    strategy.onEntry(vertex);
+
+                    SearchAction action = strategy.afterEntry(vertex);
+
+                    if(action == SearchAction.STOP)
+                        return reached;
+
+                    cursor.reset(vertex);
+
+                    while(action == SearchAction.CONTINUE && cursor.hasNext())
+                    {
+                        int neighbour = cursor.next();
+
+                        if(!reached.get(neighbour))
+                        {
+                            strategy.onNextVertex(vertex, neighbour);
+                            reached.set(neighbour);
+                            vertexQueue[queueEnd++] = neighbour;
+                        }
+                    }
+
+                    strategy.onExit(vertex);
+                }
+            }
+
+        return reached;
+    }
+
+    /**
+     * Parallel breadth-first search algorithm in the common fork-join pool.
+     * @param graph the graph with integer vertices
+     * @param roots the starting vertices
+     * @return the tree of levels and parents of vertices
+     */
+    public static BfsTree parallelBfs(IntGraph graph, int... roots)
+    {
+        return parallelBfs(graph, ForkJoinPool.commonPool(), roots);
+    }
+
+    /**
+     * Parallel breadth-first search algorithm, which is direction-optimizing. Each level is
+     * expanded either top-down from vertices in the frontier or bottom-up from vertices not
+     * visited yet, depending on the number of edges from the frontier. Vertices of each level are
+     * processed in parallel in given fork-join pool.
+     * @param graph the graph with integer vertices
+     * @param pool the fork-join pool for expanding levels
+     * @param roots the starting vertices
+     * @return the tree of levels and parents of vertices
+     */
+    public static BfsTree parallelBfs(IntGraph graph, ForkJoinPool pool, int... roots)
+    {
+        return new ParallelBfs(graph, pool).run(roots);
+    }
+
+    /**
+     * Iterative depth-first search algorithm.
+     * @param graph the graph with integer vertices
+     * @param strategy the searching strategy
+     * @param roots the starting vertices
+     * @return the visited vertices
+     */
+    public static BitSet dfsIterative(IntGraph graph, IntDfsStrategy strategy, int... roots)
+    {
+        IntDfsState state = new IntDfsState(graph);
+        int[] vertexStack = new int[graph.getVerticesCount()];
+
+        for(int root : roots)
+            if(state.reached[root] == 0)
+            {
+                strategy.forRoot(root);
+
+                int depth = dfsEnter(strategy, state, vertexStack, 0, root);
+
+                if(depth < 0)
+                    return state.visited();
+
+                while(depth > 0)
+                {
+                    int vertex = vertexStack[depth - 1];
+                    IntGraph.NeighbourCursor cursor = state.cursors.get(depth - 1);
+
+                    if(cursor.hasNext())
+                    {
+                        int neighbour = cursor.next();
+
+                        if(state.reached[neighbour] == 0)
+                        {
+                            strategy.onNextVertex(vertex, neighbour);
+                            depth = dfsEnter(strategy, state, vertexStack, depth, neighbour);
+
+                            if(depth < 0)
+                                return state.visited();
+                        }
+                        else if(state.reached[neighbour] == state.iteration)
+                            strategy.onEdgeToVisited(vertex, neighbour);
+                    }
+                    else
+                    {
+                        strategy.onExit(vertex);
+                        state.onExit(vertex);
+                        --depth;
+                    }
+                }
+
+                ++state.iteration;
+            }
+
+        return state.visited();
+    }
+
+    /**
+     * Recursive depth-first search algorithm.
+     * @param graph the graph with integer vertices
+     * @param strategy the searching strategy
+     * @param roots the starting vertices
+     * @return the visited vertices
+     */
+    public static BitSet dfsRecursive(IntGraph graph, IntDfsStrategy strategy, int... roots)
+    {
+        IntDfsState state = new IntDfsState(graph);
+
+        for(int root : roots)
+            if(state.reached[root] == 0)
+            {
+                strategy.forRoot(root);
+                dfsRecursiveStep(strategy, state, root, 0);
+
+                if(state.isStopped)
+                    break;
+
+                ++state.iteration;
+            }
+
+        return state.visited();
+    }
+
+    // Enters given vertex in iterative DFS and puts its frame on the stack.
+    private static <VertexId, VertexProperty, EdgeProperty> SearchAction dfsEnter(
             Graph<VertexId, VertexProperty, EdgeProperty> graph,
             DfsStrategy<VertexId> strategy,
-            DfsRecursiveState<VertexId> state)
+            DfsState<VertexId> state,
+            Deque<DfsFrame<VertexId>> frameStack,
+            Vertex<VertexId> vertex)
     {
-        Vertex<VertexId> vertex = state.vertex;
-
         state.onEntry(vertex);
         strategy.onEntry(vertex);
 
-        for(Vertex<VertexId> neighbour : graph.getNeighbours(vertex))
-            if(!state.reached.containsKey(neighbour))
+        SearchAction action = strategy.afterEntry(vertex);
+        Iterator<Vertex<VertexId>> neighbours = action == SearchAction.CONTINUE
+                                                ? graph.getNeighbours(vertex).iterator()
+                                                : Collections.emptyIterator();
+
+        frameStack.addFirst(new DfsFrame<>(vertex, neighbours));
+        return action;
+    }
+
+    // Enters given vertex in iterative DFS on graph with integer vertices and returns new depth of
+    // the stack, or -1 if searching stops.
+    private static int dfsEnter(
+            IntDfsStrategy strategy, IntDfsState state, int[] vertexStack, int depth, int vertex)
+    {
+        strategy.onEntry(vertex);
+        state.onEntry(vertex, depth);
+
+        return switch(strategy.afterEntry(vertex))
+        {
+            case CONTINUE ->
+            {
+                vertexStack[depth] = vertex;
+                yield depth + 1;
+            }
+            case SKIP_SUBTREE ->
+            {
+                strategy.onExit(vertex);
+                state.onExit(vertex);
+                yield depth;
+            }
+            case STOP -> -1;
+        };
+    }
+
+    // Single step of recursive DFS on graph with integer vertices.
+    private static void dfsRecursiveStep(
+            IntDfsStrategy strategy, IntDfsState state, int vertex, int depth)
+    {
+        strategy.onEntry(vertex);
+        state.onEntry(vertex, depth);
+
+        SearchAction action = strategy.afterEntry(vertex);
+
+        if(action == SearchAction.STOP)
+        {
+            state.isStopped = true;
+            return;
+        }
+
+        IntGraph.NeighbourCursor cursor = state.cursors.get(depth);
+
+        while(action == SearchAction.CONTINUE && cursor.hasNext())
+        {
+            int neighbour = cursor.next();
+
+            if(state.reached[neighbour] == 0)
             {
                 strategy.onNextVertex(vertex, neighbour);
-                state.vertex = neighbour;
-                dfsRecursiveStep(graph, strategy, state);
+                dfsRecursiveStep(strategy, state, neighbour, depth + 1);
+
+                if(state.isStopped)
+                    return;
             }
-            else if(state.reached.get(neighbour) == state.iteration)
+            else if(state.reached[neighbour] == state.iteration)
                 strategy.onEdgeToVisited(vertex, neighbour);
+        }
 
         strategy.onExit(vertex);
         state.onExit(vertex);
     }
 
-    private static class DfsRecursiveState<VertexId>
+    // Single step of recursive DFS.
+    private static <VertexId, VertexProperty, EdgeProperty> void dfsRecursiveStep(
+            Graph<VertexId, VertexProperty, EdgeProperty> graph,
+            DfsStrategy<VertexId> strategy,
+            DfsState<VertexId> state)
+    {
+        Vertex<VertexId> vertex = state.vertex;
+
+        state.onEntry(vertex);
+        strategy.onEntry(vertex);
+
+        SearchAction action = strategy.afterEntry(vertex);
+
+        if(action == SearchAction.STOP)
+        {
+            state.isStopped = true;
+            return;
+        }
+
+        if(action == SearchAction.CONTINUE)
+            for(Vertex<VertexId> neighbour : graph.getNeighbours(vertex))
+                if(!state.reached.containsKey(neighbour))
+                {
+                    strategy.onNextVertex(vertex, neighbour);
+                    state.vertex = neighbour;
+                    dfsRecursiveStep(graph, strategy, state);
+
+                    if(state.isStopped)
+                        return;
+                }
+                else if(state.reached.get(neighbour) == state.iteration)
+                    strategy.onEdgeToVisited(vertex, neighbour);
+
+        strategy.onExit(vertex);
+        state.onExit(vertex);
+    }
+
+    // Single vertex on the stack of iterative DFS with its remaining neighbours.
+    private record DfsFrame<VertexId>(Vertex<VertexId> vertex,
+                                      Iterator<Vertex<VertexId>> neighbours)
+    {
+    }
+
+    private static class DfsState<VertexId>
     {
         Vertex<VertexId> vertex;
         int iteration = 1;
+        boolean isStopped = false;
         Map<Vertex<VertexId>, Integer> reached = new HashMap<>();
 
         void onEntry(Vertex<VertexId> vertex_)
@@ -170,4 +458,175 @@ public final class Searching
             reached.put(vertex_, -iteration);
         }
     }
+
+    private static class IntDfsState
+    {
+        final IntGraph graph;
+        final int[] reached;
+        // cursors are reused by all vertices at the same depth
+        final List<IntGraph.NeighbourCursor> cursors = new ArrayList<>();
+        int iteration = 1;
+        boolean isStopped = false;
+
+        IntDfsState(IntGraph graph)
+        {
+            this.graph = graph;
+            reached = new int[graph.getVerticesCount()];
+        }
+
+        void onEntry(int vertex, int depth)
+        {
+            if(depth == cursors.size())
+                cursors.add(graph.neighbourCursor());
+
+            cursors.get(depth).reset(vertex);
+            reached[vertex] = iteration;
+        }
+
+        void onExit(int vertex)
+        {
+            reached[vertex] = -iteration;
+        }
+
+        BitSet visited()
+        {
+            BitSet visited = new BitSet(reached.length);
+
+            for(int i = 0; i < reached.length; ++i)
+                if(reached[i] != 0)
+                    visited.set(i);
+
+            return visited;
+        }
+    }
+
+    // State of parallel breadth-first search with visited vertices in an atomic bit set.
+    private static final class ParallelBfs
+    {
+        // bottom-up steps start when the frontier has more than this part of unexplored edges
+        private static final int TOP_DOWN_FACTOR = 14;
+        // top-down steps return when the frontier has less than this part of all vertices
+        private static final int BOTTOM_UP_FACTOR = 24;
+        private final IntGraph graph;
+        private final ForkJoinPool pool;
+        private final AtomicLongArray visited;
+        private final int[] levels;
+        private final int[] parents;
+
+        ParallelBfs(IntGraph graph, ForkJoinPool pool)
+        {
+            this.graph = graph;
+            this.pool = pool;
+            visited = new AtomicLongArray((graph.getVerticesCount() + 63) / 64);
+            levels = new int[graph.getVerticesCount()];
+            parents = new int[graph.getVerticesCount()];
+            Arrays.fill(levels, -1);
+            Arrays.fill(parents, -1);
+        }
+
+        BfsTree run(int[] roots)
+        {
+            int[] frontier = IntStream.of(roots).filter(this::tryVisit).toArray();
+            long unexploredEdges = countEdges(IntStream.range(0, graph.getVerticesCount()));
+            boolean isBottomUp = false;
+
+            for(int root : frontier)
+                levels[root] = 0;
+
+            for(int level = 0; frontier.length > 0; ++level)
+            {
+                long frontierEdges = countEdges(IntStream.of(frontier));
+
+                unexploredEdges -= frontierEdges;
+
+                if(!isBottomUp && frontierEdges > unexploredEdges / TOP_DOWN_FACTOR)
+                    isBottomUp = true;
+                else if(isBottomUp
+                        && frontier.length < graph.getVerticesCount() / BOTTOM_UP_FACTOR)
+                    isBottomUp = false;
+
+                frontier = isBottomUp ? bottomUpStep(frontier, level + 1)
+                                      : topDownStep(frontier, level + 1);
+            }
+
+            return new BfsTree(levels, parents);
+        }
+
+        // Visits neighbours of vertices in the frontier.
+        private int[] topDownStep(int[] frontier, int nextLevel)
+        {
+            return pool.submit(() -> IntStream.of(frontier)
+                                              .parallel()
+                                              .mapMulti((vertex, consumer) -> visitNeighbours(
+                                                      vertex, nextLevel, consumer))
+                                              .toArray()).join();
+        }
+
+        private void visitNeighbours(int vertex, int nextLevel, IntConsumer consumer)
+        {
+            graph.forEachNeighbour(vertex, neighbour -> {
+                if(tryVisit(neighbour))
+                {
+                    parents[neighbour] = vertex;
+                    levels[neighbour] = nextLevel;
+                    consumer.accept(neighbour);
+                }
+            });
+        }
+
+        // Visits vertices not visited yet that have an edge from any vertex in the frontier.
+        private int[] bottomUpStep(int[] frontier, int nextLevel)
+        {
+            BitSet isFrontier = new BitSet(graph.getVerticesCount());
+
+            for(int vertex : frontier)
+                isFrontier.set(vertex);
+
+            return pool.submit(() -> IntStream.range(0, graph.getVerticesCount())
+                                              .parallel()
+                                              .filter(vertex -> {
+                                                  if(isVisited(vertex))
+                                                      return false;
+
+                                                  int parent = graph.findIncomingNeighbour(vertex,
+                                                          isFrontier::get);
+
+                                                  if(parent < 0)
+                                                      return false;
+
+                                                  tryVisit(vertex);
+                                                  parents[vertex] = parent;
+                                                  levels[vertex] = nextLevel;
+                                                  return true;
+                                              })
+                                              .toArray()).join();
+        }
+
+        private long countEdges(IntStream vertices)
+        {
+            return vertices.mapToLong(graph::getOutputDegree).sum();
+        }
+
+        private boolean isVisited(int vertex)
+        {
+            return (visited.get(vertex >>> 6) & 1L << vertex) != 0;
+        }
+
+        // Marks given vertex as visited, unless it is already visited.
+        private boolean tryVisit(int vertex)
+        {
+            long mask = 1L << vertex;
+            long word = visited.get(vertex >>> 6);
+
+            while((word & mask) == 0)
+            {
+                if(visited.compareAndSet(vertex >>> 6, word, word | mask))
+                    return true;
+
+                word = visited.get(vertex >>> 6);
+            }
+
+            return false;
+        }
+    }
 }
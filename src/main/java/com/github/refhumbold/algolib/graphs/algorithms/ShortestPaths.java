@@ -1,30 +1,46 @@
 package com.github.refhumbold.algolib.graphs.algorithms;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import com.github.refhumbold.algolib.graphs.CompactDirectedGraph;
+import com.github.refhumbold.algolib.graphs.CompactGraph;
+import com.github.refhumbold.algolib.graphs.CompactUndirectedGraph;
 import com.github.refhumbold.algolib.graphs.DirectedGraph;
 import com.github.refhumbold.algolib.graphs.Edge;
 import com.github.refhumbold.algolib.graphs.Graph;
+import com.github.refhumbold.algolib.graphs.IntGraph;
+import com.github.refhumbold.algolib.graphs.UndirectedGraph;
 import com.github.refhumbold.algolib.graphs.Vertex;
+import com.github.refhumbold.algolib.graphs.properties.WeightColumn;
 import com.github.refhumbold.algolib.graphs.properties.Weighted;
+import com.github.refhumbold.algolib.structures.heaps.IndexedHeap;
 import com.github.refhumbold.algolib.tuples.Pair;
 
 /** Algorithms for shortest paths in a weighted graph. */
 public final class ShortestPaths
 {
+    private static final int FLOYD_WARSHALL_BLOCK_SIZE = 64;
+
     /**
      * Computes shortest paths in given directed graph from given vertex using Bellman-Ford
      * algorithm.
      * @param graph the directed weighted graph
      * @param source the source vertex
      * @return the map of distances to each vertex
-     * @throws IllegalStateException if the graph contains a negative cycle
+     * @throws NegativeCycleException if the graph contains a negative cycle reachable from the
+     * source, with edges of the cycle
      */
     public static <VertexId, VertexProperty, EdgeProperty extends Weighted> Map<Vertex<VertexId>, Double> bellmanFord(
             DirectedGraph<VertexId, VertexProperty, EdgeProperty> graph,
             Vertex<VertexId> source)
-            throws IllegalStateException
+            throws NegativeCycleException
     {
         Map<Vertex<VertexId>, Double> distances = graph.getVertices()
                                                        .stream()
@@ -33,21 +49,7 @@ public final class ShortestPaths
                                                                        v -> Weighted.INFINITY));
 
         distances.put(source, 0.0);
-
-        for(int i = 0; i < graph.getVerticesCount() - 1; ++i)
-            for(Vertex<VertexId> vertex : graph.getVertices())
-                for(Edge<VertexId> edge : graph.getAdjacentEdges(vertex))
-                    distances.put(edge.destination(), Math.min(distances.get(edge.destination()),
-                            distances.get(vertex) + graph.getProperties().get(edge).getWeight()));
-
-        for(Vertex<VertexId> vertex : graph.getVertices())
-            for(Edge<VertexId> edge : graph.getAdjacentEdges(vertex))
-                if(distances.get(vertex) < Weighted.INFINITY
-                        && distances.get(vertex) + graph.getProperties().get(edge).getWeight()
-                        < distances.get(edge.destination()))
-                    throw new IllegalStateException("Graph contains a negative cycle.");
-
-        return distances;
+        return bellmanFord(graph, distances);
     }
 
     /**
@@ -62,72 +64,754 @@ public final class ShortestPaths
             Vertex<VertexId> source)
             throws IllegalStateException
     {
-        for(Edge<VertexId> edge : graph.getEdges())
-            if(graph.getProperties().get(edge).getWeight() < 0.0)
+        if(graph instanceof CompactGraph<VertexId, VertexProperty, EdgeProperty> compactGraph)
+        {
+            int sourceIndex = compactGraph.indexOf(source);
+
+            if(sourceIndex < 0)
+                throw new IllegalArgumentException(
+                        "Vertex %s does not belong to this graph".formatted(source));
+
+            double[] distances =
+                    dijkstra(compactGraph, compactGraph.getWeightColumn(), sourceIndex);
+
+            return IntStream.range(0, distances.length)
+                            .boxed()
+                            .collect(Collectors.toMap(compactGraph::vertexAt,
+                                    index -> distances[index]));
+        }
+
+        EdgeWeights<VertexId> edgeWeights = EdgeWeights.of(graph);
+
+        edgeWeights.forEachEdge((edge, weight) -> {
+            if(weight < 0.0)
                 throw new IllegalStateException("Graph contains an edge with negative weight.");
+        });
 
-        Map<Vertex<VertexId>, Double> distances = graph.getVertices()
-                                                       .stream()
-                                                       .collect(
-                                                               Collectors.toMap(Function.identity(),
-                                                                       v -> Weighted.INFINITY));
-        Set<Vertex<VertexId>> visited = new HashSet<>();
-        PriorityQueue<Pair<Double, Vertex<VertexId>>> vertexQueue =
-                new PriorityQueue<>(Comparator.comparingDouble(pair -> pair.first));
+        List<Vertex<VertexId>> vertices = new ArrayList<>(graph.getVertices());
+        Map<Vertex<VertexId>, Integer> indices = new HashMap<>();
 
-        distances.put(source, 0.0);
-        vertexQueue.add(Pair.of(0.0, source));
+        for(Vertex<VertexId> vertex : vertices)
+            indices.put(vertex, indices.size());
+
+        if(!indices.containsKey(source))
+            throw new IllegalArgumentException(
+                    "Vertex %s does not belong to this graph".formatted(source));
+
+        double[] distances = new double[vertices.size()];
+        EdgeWeights.Cursor<VertexId> cursor = edgeWeights.adjacentCursor();
+        IndexedHeap vertexHeap = new IndexedHeap(vertices.size());
 
-        while(!vertexQueue.isEmpty())
+        Arrays.fill(distances, Weighted.INFINITY);
+        distances[indices.get(source)] = 0.0;
+        vertexHeap.add(indices.get(source), 0.0);
+
+        while(!vertexHeap.isEmpty())
         {
-            Vertex<VertexId> vertex = vertexQueue.remove().second;
+            int index = vertexHeap.remove();
+            Vertex<VertexId> vertex = vertices.get(index);
+
+            cursor.reset(vertex);
 
-            if(!visited.contains(vertex))
+            while(cursor.hasNext())
             {
-                visited.add(vertex);
+                int neighbour = indices.get(cursor.next().getNeighbour(vertex));
+                double distance = distances[index] + cursor.weight();
 
-                for(Edge<VertexId> edge : graph.getAdjacentEdges(vertex))
-                {
-                    Vertex<VertexId> neighbour = edge.getNeighbour(vertex);
-                    double weight = graph.getProperties().get(edge).getWeight();
+                relax(vertexHeap, distances, neighbour, distance);
+            }
+        }
 
-                    if(distances.get(vertex) + weight < distances.get(neighbour))
-                    {
-                        distances.put(neighbour, distances.get(vertex) + weight);
-                        vertexQueue.add(Pair.of(distances.get(neighbour), neighbour));
-                    }
+        return IntStream.range(0, distances.length)
+                        .boxed()
+                        .collect(Collectors.toMap(vertices::get, index -> distances[index]));
+    }
+
+    /**
+     * Computes shortest path in given graph between given vertices using Dijkstra algorithm. The
+     * search stops as soon as the target is reached, so only the vertices closer to the source
+     * than the target are visited.
+     * @param graph the weighted graph with non-negative weights
+     * @param source the source vertex
+     * @param target the target vertex
+     * @return the shortest path from the source to the target
+     * @throws IllegalStateException if the search finds an edge with negative weight
+     */
+    public static <VertexId, VertexProperty, EdgeProperty extends Weighted> Path<VertexId> dijkstra(
+            Graph<VertexId, VertexProperty, EdgeProperty> graph,
+            Vertex<VertexId> source,
+            Vertex<VertexId> target)
+            throws IllegalStateException
+    {
+        PathSearch.validateVertex(graph, source);
+        PathSearch.validateVertex(graph, target);
+
+        EdgeWeights.Cursor<VertexId> cursor = EdgeWeights.of(graph).adjacentCursor();
+        PathSearch<VertexId> search = new PathSearch<>(source);
+
+        while(search.peekPriority() < Weighted.INFINITY)
+        {
+            Vertex<VertexId> vertex = search.next();
+
+            if(vertex.equals(target))
+                return new Path<>(search.pathTo(target), search.distance(target));
+
+            cursor.reset(vertex);
+
+            while(cursor.hasNext())
+                search.relax(vertex, cursor.next(), cursor.weight());
+        }
+
+        return Path.unreachable();
+    }
+
+    /**
+     * Computes shortest path in given graph between given vertices using bidirectional Dijkstra
+     * algorithm. Searches from the source along edges and from the target against edges, and stops
+     * once no path through unvisited vertices can be shorter than the best one found.
+     * @param graph the weighted graph with non-negative weights
+     * @param source the source vertex
+     * @param target the target vertex
+     * @return the shortest path from the source to the target
+     * @throws IllegalStateException if the search finds an edge with negative weight
+     */
+    public static <VertexId, VertexProperty, EdgeProperty extends Weighted> Path<VertexId> bidirectionalDijkstra(
+            Graph<VertexId, VertexProperty, EdgeProperty> graph,
+            Vertex<VertexId> source,
+            Vertex<VertexId> target)
+            throws IllegalStateException
+    {
+        PathSearch.validateVertex(graph, source);
+        PathSearch.validateVertex(graph, target);
+
+        EdgeWeights<VertexId> edgeWeights = EdgeWeights.of(graph);
+        EdgeWeights.Cursor<VertexId> forwardCursor = edgeWeights.adjacentCursor();
+        EdgeWeights.Cursor<VertexId> backwardCursor = edgeWeights.incomingCursor();
+        PathSearch<VertexId> forward = new PathSearch<>(source);
+        PathSearch<VertexId> backward = new PathSearch<>(target);
+        Vertex<VertexId> meeting = source.equals(target) ? source : null;
+        double bestLength = meeting == null ? Weighted.INFINITY : 0.0;
+
+        while(forward.peekPriority() + backward.peekPriority() < bestLength)
+        {
+            boolean isForward = forward.peekPriority() <= backward.peekPriority();
+            PathSearch<VertexId> search = isForward ? forward : backward;
+            PathSearch<VertexId> other = isForward ? backward : forward;
+            Vertex<VertexId> vertex = search.next();
+            EdgeWeights.Cursor<VertexId> cursor = isForward ? forwardCursor : backwardCursor;
+
+            cursor.reset(vertex);
+
+            while(cursor.hasNext())
+            {
+                Vertex<VertexId> neighbour = search.relax(vertex, cursor.next(), cursor.weight());
+                double length = search.distance(neighbour) + other.distance(neighbour);
+
+                if(length < bestLength)
+                {
+                    bestLength = length;
+                    meeting = neighbour;
                 }
             }
         }
 
+        if(meeting == null)
+            return Path.unreachable();
+
+        List<Edge<VertexId>> edges = forward.pathTo(meeting);
+
+        edges.addAll(backward.pathTo(meeting).reversed());
+        return new Path<>(edges, bestLength);
+    }
+
+    /**
+     * Computes shortest paths in given graph from given vertex using Dijkstra algorithm.
+     * @param graph the graph with integer vertices
+     * @param weights the non-negative weights of edges
+     * @param source the source vertex index
+     * @return the distances to each vertex indexed by vertex index
+     * @throws IllegalStateException if the graph contains an edge with negative weight
+     */
+    public static double[] dijkstra(IntGraph graph, WeightColumn weights, int source)
+            throws IllegalStateException
+    {
+        if(weights.getMinimalWeight() < 0.0)
+            throw new IllegalStateException("Graph contains an edge with negative weight.");
+
+        double[] distances = new double[graph.getVerticesCount()];
+        IntGraph.NeighbourCursor cursor = graph.neighbourCursor();
+        IndexedHeap vertexHeap = new IndexedHeap(graph.getVerticesCount());
+
+        Arrays.fill(distances, Weighted.INFINITY);
+        distances[source] = 0.0;
+        vertexHeap.add(source, 0.0);
+
+        while(!vertexHeap.isEmpty())
+        {
+            int vertex = vertexHeap.remove();
+
+            cursor.reset(vertex);
+
+            while(cursor.hasNext())
+            {
+                int neighbour = cursor.next();
+                double distance = distances[vertex] + weights.get(cursor.edge());
+
+                relax(vertexHeap, distances, neighbour, distance);
+            }
+        }
+
         return distances;
     }
 
+    /**
+     * Computes shortest paths in given graph from given vertex using delta-stepping algorithm in
+     * the common fork-join pool.
+     * @param graph the weighted graph with non-negative weights
+     * @param source the source vertex
+     * @param delta the width of distance buckets
+     * @return the map of distances to each vertex
+     * @throws IllegalArgumentException if the bucket width is not positive
+     * @throws IllegalStateException if the graph contains an edge with negative weight
+     */
+    public static <VertexId, VertexProperty, EdgeProperty extends Weighted> Map<Vertex<VertexId>, Double> deltaStepping(
+            Graph<VertexId, VertexProperty, EdgeProperty> graph,
+            Vertex<VertexId> source,
+            double delta)
+            throws IllegalStateException
+    {
+        return deltaStepping(graph, source, delta, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Computes shortest paths in given graph from given vertex using delta-stepping algorithm in
+     * given fork-join pool. A graph that is not compact is copied to a compact graph first.
+     * @param graph the weighted graph with non-negative weights
+     * @param source the source vertex
+     * @param delta the width of distance buckets
+     * @param pool the fork-join pool for relaxations
+     * @return the map of distances to each vertex
+     * @throws IllegalArgumentException if the bucket width is not positive
+     * @throws IllegalStateException if the graph contains an edge with negative weight
+     */
+    public static <VertexId, VertexProperty, EdgeProperty extends Weighted> Map<Vertex<VertexId>, Double> deltaStepping(
+            Graph<VertexId, VertexProperty, EdgeProperty> graph,
+            Vertex<VertexId> source,
+            double delta,
+            ForkJoinPool pool)
+            throws IllegalStateException
+    {
+        CompactGraph<VertexId, VertexProperty, EdgeProperty> compactGraph =
+                graph instanceof CompactGraph<VertexId, VertexProperty, EdgeProperty> g
+                ? g
+                : graph instanceof DirectedGraph<VertexId, VertexProperty, EdgeProperty> g
+                  ? new CompactDirectedGraph<>(g)
+                  : new CompactUndirectedGraph<>(
+                          (UndirectedGraph<VertexId, VertexProperty, EdgeProperty>)graph);
+        int sourceIndex = compactGraph.indexOf(source);
+
+        if(sourceIndex < 0)
+            throw new IllegalArgumentException(
+                    "Vertex %s does not belong to this graph".formatted(source));
+
+        double[] distances = deltaStepping(compactGraph, compactGraph.getWeightColumn(),
+                sourceIndex, delta, pool);
+
+        return IntStream.range(0, distances.length)
+                        .boxed()
+                        .collect(Collectors.toMap(compactGraph::vertexAt,
+                                index -> distances[index]));
+    }
+
+    /**
+     * Computes shortest paths in given graph from given vertex using delta-stepping algorithm.
+     * Vertices are processed in buckets of distances with given width. Edges not longer than the
+     * width are relaxed repeatedly while the current bucket changes, and longer edges once after
+     * the bucket is settled. Each relaxation phase runs in parallel in given fork-join pool.
+     * @param graph the graph with integer vertices
+     * @param weights the non-negative weights of edges
+     * @param source the source vertex index
+     * @param delta the width of distance buckets
+     * @param pool the fork-join pool for relaxations
+     * @return the distances to each vertex indexed by vertex index
+     * @throws IllegalArgumentException if the bucket width is not positive
+     * @throws IllegalStateException if the graph contains an edge with negative weight
+     */
+    public static double[] deltaStepping(
+            IntGraph graph, WeightColumn weights, int source, double delta, ForkJoinPool pool)
+            throws IllegalStateException
+    {
+        if(delta <= 0.0)
+            throw new IllegalArgumentException(
+                    "Bucket width must be positive, but was %f".formatted(delta));
+
+        if(weights.getMinimalWeight() < 0.0)
+            throw new IllegalStateException("Graph contains an edge with negative weight.");
+
+        return new DeltaStepping(graph, weights, delta, pool).run(source);
+    }
+
     /**
      * Computes shortest paths in given directed graph between all vertices using Floyd-Warshall
      * algorithm.
      * @param graph the directed weighted graph
      * @return the map of distances between all pairs of vertices
+     * @throws IllegalArgumentException if the graph has too many vertices for a distance matrix
      */
     public static <VertexId, VertexProperty, EdgeProperty extends Weighted> Map<Pair<Vertex<VertexId>, Vertex<VertexId>>, Double> floydWarshall(
             DirectedGraph<VertexId, VertexProperty, EdgeProperty> graph)
     {
-        Map<Pair<Vertex<VertexId>, Vertex<VertexId>>, Double> distances = new HashMap<>();
+        return floydWarshallMatrix(graph).toMap();
+    }
+
+    /**
+     * Computes shortest paths in given directed graph between all vertices using Floyd-Warshall
+     * algorithm on a flat matrix. The matrix is processed in square blocks, and blocks that do not
+     * depend on each other within a single phase are processed in parallel.
+     * @param graph the directed weighted graph
+     * @return the matrix of distances between all pairs of vertices
+     * @throws IllegalArgumentException if the graph has too many vertices for a distance matrix
+     */
+    public static <VertexId, VertexProperty, EdgeProperty extends Weighted> DistanceMatrix<VertexId> floydWarshallMatrix(
+            DirectedGraph<VertexId, VertexProperty, EdgeProperty> graph)
+    {
+        List<Vertex<VertexId>> vertices = new ArrayList<>(graph.getVertices());
+        Map<Vertex<VertexId>, Integer> indices = new HashMap<>();
+        int size = vertices.size();
+        double[] distances = DistanceMatrix.newDistances(size);
+
+        Arrays.fill(distances, Weighted.INFINITY);
 
-        for(Vertex<VertexId> v : graph.getVertices())
-            for(Vertex<VertexId> u : graph.getVertices())
-                distances.put(Pair.of(v, u), v.equals(u) ? 0.0 : Weighted.INFINITY);
+        for(int i = 0; i < size; ++i)
+        {
+            indices.put(vertices.get(i), i);
+            distances[i * size + i] = 0.0;
+        }
 
-        for(Edge<VertexId> e : graph.getEdges())
-            distances.put(Pair.of(e.source(), e.destination()),
-                    graph.getProperties().get(e).getWeight());
+        EdgeWeights.of(graph).forEachEdge((edge, weight) -> distances[
+                indices.get(edge.source()) * size + indices.get(edge.destination())] = weight);
 
-        for(Vertex<VertexId> w : graph.getVertices())
-            for(Vertex<VertexId> v : graph.getVertices())
-                for(Vertex<VertexId> u : graph.getVertices())
-                    distances.put(Pair.of(v, u), Math.min(distances.get(Pair.of(v, u)),
-                            distances.get(Pair.of(v, w)) + distances.get(Pair.of(w, u))));
+        int blocksCount = (size + FLOYD_WARSHALL_BLOCK_SIZE - 1) / FLOYD_WARSHALL_BLOCK_SIZE;
 
-        return distances;
+        for(int k = 0; k < blocksCount; ++k)
+        {
+            int kBlock = k;
+
+            // the diagonal block first, then its row and column, then all remaining blocks
+            updateBlock(distances, size, kBlock, kBlock, kBlock);
+            IntStream.range(0, blocksCount).parallel().filter(b -> b != kBlock).forEach(b -> {
+                updateBlock(distances, size, kBlock, kBlock, b);
+                updateBlock(distances, size, kBlock, b, kBlock);
+            });
+            IntStream.range(0, blocksCount * blocksCount)
+                     .parallel()
+                     .filter(b -> b / blocksCount != kBlock && b % blocksCount != kBlock)
+                     .forEach(b -> updateBlock(distances, size, kBlock, b / blocksCount,
+                             b % blocksCount));
+        }
+
+        return new DistanceMatrix<>(vertices, indices, distances);
+    }
+
+    /**
+     * Computes shortest paths in given directed graph between all vertices using Johnson
+     * algorithm. Dijkstra algorithm for each source runs in the common fork-join pool.
+     * @param graph the directed weighted graph
+     * @return the matrix of distances between all pairs of vertices
+     * @throws NegativeCycleException if the graph contains a negative cycle
+     * @throws IllegalArgumentException if the graph has too many vertices for a distance matrix
+     */
+    public static <VertexId, VertexProperty, EdgeProperty extends Weighted> DistanceMatrix<VertexId> johnson(
+            DirectedGraph<VertexId, VertexProperty, EdgeProperty> graph)
+            throws NegativeCycleException
+    {
+        return johnson(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Computes shortest paths in given directed graph between all vertices using Johnson
+     * algorithm. Edges are reweighted with vertex potentials from Bellman-Ford algorithm, then
+     * Dijkstra algorithm for each source runs as a separate task in given executor.
+     * @param graph the directed weighted graph
+     * @param executor the executor for Dijkstra tasks
+     * @return the matrix of distances between all pairs of vertices
+     * @throws NegativeCycleException if the graph contains a negative cycle
+     * @throws IllegalArgumentException if the graph has too many vertices for a distance matrix
+     */
+    public static <VertexId, VertexProperty, EdgeProperty extends Weighted> DistanceMatrix<VertexId> johnson(
+            DirectedGraph<VertexId, VertexProperty, EdgeProperty> graph, Executor executor)
+            throws NegativeCycleException
+    {
+        // potentials are distances from an extra vertex with zero edges to all vertices
+        Map<Vertex<VertexId>, Double> potentialsMap = bellmanFord(graph,
+                graph.getVertices()
+                     .stream()
+                     .collect(Collectors.toMap(Function.identity(), v -> 0.0)));
+        CompactDirectedGraph<VertexId, VertexProperty, EdgeProperty> compactGraph =
+                graph instanceof CompactDirectedGraph<VertexId, VertexProperty, EdgeProperty> g
+                ? g
+                : new CompactDirectedGraph<>(graph);
+        int size = compactGraph.getVerticesCount();
+        List<Vertex<VertexId>> vertices = new ArrayList<>(size);
+        Map<Vertex<VertexId>, Integer> indices = new HashMap<>();
+        double[] potentials = new double[size];
+
+        for(int i = 0; i < size; ++i)
+        {
+            vertices.add(compactGraph.vertexAt(i));
+            indices.put(compactGraph.vertexAt(i), i);
+            potentials[i] = potentialsMap.get(compactGraph.vertexAt(i));
+        }
+
+        WeightColumn weights = compactGraph.getWeightColumn();
+        double[] reweighted = new double[weights.size()];
+        IntGraph.NeighbourCursor cursor = compactGraph.neighbourCursor();
+
+        for(int vertex = 0; vertex < size; ++vertex)
+        {
+            cursor.reset(vertex);
+
+            while(cursor.hasNext())
+            {
+                int neighbour = cursor.next();
+
+                // non-negative by triangle inequality, up to rounding errors
+                reweighted[cursor.edge()] = Math.max(0.0,
+                        weights.get(cursor.edge()) + potentials[vertex] - potentials[neighbour]);
+            }
+        }
+
+        WeightColumn reweightedColumn = WeightColumn.of(reweighted.length, e -> reweighted[e]);
+        double[] distances = DistanceMatrix.newDistances(size);
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[size];
+
+        for(int source = 0; source < size; ++source)
+        {
+            int sourceIndex = source;
+
+            tasks[source] = CompletableFuture.runAsync(() -> {
+                double[] row = dijkstra(compactGraph, reweightedColumn, sourceIndex);
+
+                for(int i = 0; i < size; ++i)
+                    distances[sourceIndex * size + i] =
+                            row[i] - potentials[sourceIndex] + potentials[i];
+            }, executor);
+        }
+
+        CompletableFuture.allOf(tasks).join();
+        return new DistanceMatrix<>(vertices, indices, distances);
+    }
+
+    // Relaxes edges of given graph starting from given distances in Bellman-Ford algorithm. Only
+    // edges from vertices with changed distances are relaxed, using a FIFO queue of such vertices,
+    // so the algorithm stops as soon as no distance changes.
+    private static <VertexId, VertexProperty, EdgeProperty extends Weighted> Map<Vertex<VertexId>, Double> bellmanFord(
+            DirectedGraph<VertexId, VertexProperty, EdgeProperty> graph,
+            Map<Vertex<VertexId>, Double> initialDistances)
+            throws NegativeCycleException
+    {
+        EdgeWeights.Cursor<VertexId> cursor = EdgeWeights.of(graph).adjacentCursor();
+        List<Vertex<VertexId>> vertices = new ArrayList<>(graph.getVertices());
+        Map<Vertex<VertexId>, Integer> indices = new HashMap<>();
+        List<Edge<VertexId>> edges = new ArrayList<>(graph.getEdgesCount());
+        int size = vertices.size();
+        int[] offsets = new int[size + 1];
+        double[] weights = new double[graph.getEdgesCount()];
+
+        for(int i = 0; i < size; ++i)
+        {
+            indices.put(vertices.get(i), i);
+            cursor.reset(vertices.get(i));
+
+            while(cursor.hasNext())
+            {
+                edges.add(cursor.next());
+                weights[edges.size() - 1] = cursor.weight();
+            }
+
+            offsets[i + 1] = edges.size();
+        }
+
+        int[] sources = new int[edges.size()];
+        int[] destinations = new int[edges.size()];
+
+        for(int i = 0; i < edges.size(); ++i)
+        {
+            sources[i] = indices.get(edges.get(i).source());
+            destinations[i] = indices.get(edges.get(i).destination());
+        }
+
+        double[] distances = new double[size];
+        int[] parentEdges = new int[size];
+        int[] relaxations = new int[size];
+        boolean[] isQueued = new boolean[size];
+        // ring buffer of queued vertices, which never holds any vertex twice
+        int[] vertexQueue = new int[size];
+        int queueBegin = 0;
+        int queueSize = 0;
+
+        Arrays.fill(parentEdges, -1);
+
+        for(int i = 0; i < size; ++i)
+        {
+            distances[i] = initialDistances.get(vertices.get(i));
+
+            if(distances[i] < Weighted.INFINITY)
+            {
+                vertexQueue[queueSize++] = i;
+                isQueued[i] = true;
+            }
+        }
+
+        while(queueSize > 0)
+        {
+            int vertex = vertexQueue[queueBegin];
+
+            queueBegin = (queueBegin + 1) % size;
+            --queueSize;
+            isQueued[vertex] = false;
+
+            for(int i = offsets[vertex]; i < offsets[vertex + 1]; ++i)
+            {
+                int neighbour = destinations[i];
+                double distance = distances[vertex] + weights[i];
+
+                if(distance >= distances[neighbour])
+                    continue;
+
+                distances[neighbour] = distance;
+                parentEdges[neighbour] = i;
+
+                // without negative cycles each vertex improves fewer than size times
+                if(++relaxations[neighbour] % size == 0)
+                {
+                    List<Edge<VertexId>> cycle = findParentCycle(parentEdges, sources, edges);
+
+                    if(!cycle.isEmpty())
+                        throw new NegativeCycleException("Graph contains a negative cycle.",
+                                cycle);
+                }
+
+                if(!isQueued[neighbour])
+                {
+                    vertexQueue[(queueBegin + queueSize++) % size] = neighbour;
+                    isQueued[neighbour] = true;
+                }
+            }
+        }
+
+        Map<Vertex<VertexId>, Double> result = new HashMap<>();
+
+        for(int i = 0; i < size; ++i)
+            result.put(vertices.get(i), distances[i]);
+
+        return result;
+    }
+
+    // Finds a cycle of edges to parents in Bellman-Ford algorithm, which is always negative.
+    private static <VertexId> List<Edge<VertexId>> findParentCycle(
+            int[] parentEdges, int[] sources, List<Edge<VertexId>> edges)
+    {
+        int[] walks = new int[parentEdges.length];
+
+        for(int start = 0; start < parentEdges.length; ++start)
+        {
+            int vertex = start;
+
+            while(vertex >= 0 && walks[vertex] == 0)
+            {
+                walks[vertex] = start + 1;
+                vertex = parentEdges[vertex] < 0 ? -1 : sources[parentEdges[vertex]];
+            }
+
+            if(vertex >= 0 && walks[vertex] == start + 1)
+            {
+                List<Edge<VertexId>> cycle = new ArrayList<>();
+                int cycleVertex = vertex;
+
+                do
+                {
+                    cycle.add(edges.get(parentEdges[cycleVertex]));
+                    cycleVertex = sources[parentEdges[cycleVertex]];
+                } while(cycleVertex != vertex);
+
+                return cycle.reversed();
+            }
+        }
+
+        return List.of();
+    }
+
+    // Single relaxation step of Dijkstra algorithm. With non-negative weights, vertices already
+    // removed from the heap never get a shorter distance, so they are never added again.
+    private static void relax(IndexedHeap vertexHeap, double[] distances, int vertex,
+            double distance)
+    {
+        if(distance < distances[vertex])
+        {
+            distances[vertex] = distance;
+
+            if(vertexHeap.contains(vertex))
+                vertexHeap.decreaseKey(vertex, distance);
+            else
+                vertexHeap.add(vertex, distance);
+        }
+    }
+
+    // Single step of blocked Floyd-Warshall algorithm, which updates one block of distances with
+    // paths through vertices from given block.
+    private static void updateBlock(double[] distances, int size, int kBlock, int iBlock,
+            int jBlock)
+    {
+        int kEnd = Math.min(size, (kBlock + 1) * FLOYD_WARSHALL_BLOCK_SIZE);
+        int iEnd = Math.min(size, (iBlock + 1) * FLOYD_WARSHALL_BLOCK_SIZE);
+        int jBegin = jBlock * FLOYD_WARSHALL_BLOCK_SIZE;
+        int jEnd = Math.min(size, jBegin + FLOYD_WARSHALL_BLOCK_SIZE);
+
+        for(int k = kBlock * FLOYD_WARSHALL_BLOCK_SIZE; k < kEnd; ++k)
+            for(int i = iBlock * FLOYD_WARSHALL_BLOCK_SIZE; i < iEnd; ++i)
+            {
+                double throughK = distances[i * size + k];
+
+                if(throughK == Weighted.INFINITY)
+                    continue;
+
+                for(int j = jBegin; j < jEnd; ++j)
+                {
+                    double distance = throughK + distances[k * size + j];
+
+                    if(distance < distances[i * size + j])
+                        distances[i * size + j] = distance;
+                }
+            }
+    }
+
+    // State of delta-stepping algorithm with distances stored as bits of doubles. Bits of
+    // non-negative doubles are ordered as the doubles, so distances are decreased by atomic
+    // comparisons of longs.
+    private static final class DeltaStepping
+    {
+        private final IntGraph graph;
+        private final WeightColumn weights;
+        private final double delta;
+        private final ForkJoinPool pool;
+        private final AtomicLongArray distanceBits;
+        private final TreeMap<Long, IntStream.Builder> buckets = new TreeMap<>();
+        private final int[] marks;
+        private int marksCount = 0;
+
+        DeltaStepping(IntGraph graph, WeightColumn weights, double delta, ForkJoinPool pool)
+        {
+            this.graph = graph;
+            this.weights = weights;
+            this.delta = delta;
+            this.pool = pool;
+            distanceBits = new AtomicLongArray(graph.getVerticesCount());
+            marks = new int[graph.getVerticesCount()];
+
+            for(int i = 0; i < graph.getVerticesCount(); ++i)
+                distanceBits.set(i, Double.doubleToLongBits(Weighted.INFINITY));
+        }
+
+        double[] run(int source)
+        {
+            distanceBits.set(source, Double.doubleToLongBits(0.0));
+            buckets.computeIfAbsent(0L, key -> IntStream.builder()).add(source);
+
+            while(!buckets.isEmpty())
+            {
+                Map.Entry<Long, IntStream.Builder> entry = buckets.pollFirstEntry();
+                long bucket = entry.getKey();
+                IntStream.Builder settled = IntStream.builder();
+                int[] frontier = distribute(entry.getValue().build().toArray(), bucket);
+
+                // light edges may put vertices back to the current bucket
+                while(frontier.length > 0)
+                {
+                    for(int vertex : frontier)
+                        settled.add(vertex);
+
+                    frontier = distribute(relaxAll(frontier, true), bucket);
+                }
+
+                distribute(relaxAll(distribute(settled.build().toArray(), bucket), false),
+                        bucket);
+            }
+
+            return IntStream.range(0, graph.getVerticesCount())
+                            .mapToDouble(i -> Double.longBitsToDouble(distanceBits.get(i)))
+                            .toArray();
+        }
+
+        // Relaxes light or heavy edges from given vertices in parallel.
+        private int[] relaxAll(int[] vertices, boolean isLight)
+        {
+            return pool.submit(() -> IntStream.of(vertices)
+                                              .parallel()
+                                              .mapMulti((vertex, consumer) -> relaxEdges(vertex,
+                                                      isLight, consumer))
+                                              .toArray()).join();
+        }
+
+        // Relaxes light or heavy edges from given vertex and passes neighbours with decreased
+        // distances to given consumer.
+        private void relaxEdges(int vertex, boolean isLight, IntConsumer consumer)
+        {
+            double vertexDistance = Double.longBitsToDouble(distanceBits.get(vertex));
+            IntGraph.NeighbourCursor cursor = graph.neighbourCursor();
+
+            cursor.reset(vertex);
+
+            while(cursor.hasNext())
+            {
+                int neighbour = cursor.next();
+                double weight = weights.get(cursor.edge());
+
+                if(weight <= delta != isLight)
+                    continue;
+
+                long bits = Double.doubleToLongBits(vertexDistance + weight);
+                long currentBits = distanceBits.get(neighbour);
+
+                while(bits < currentBits)
+                {
+                    if(distanceBits.compareAndSet(neighbour, currentBits, bits))
+                    {
+                        consumer.accept(neighbour);
+                        break;
+                    }
+
+                    currentBits = distanceBits.get(neighbour);
+                }
+            }
+        }
+
+        // Puts given vertices without duplicates to buckets of their current distances, except
+        // the vertices from given bucket, which are returned.
+        private int[] distribute(int[] vertices, long bucket)
+        {
+            IntStream.Builder current = IntStream.builder();
+
+            ++marksCount;
+
+            for(int vertex : vertices)
+            {
+                if(marks[vertex] == marksCount)
+                    continue;
+
+                marks[vertex] = marksCount;
+
+                long vertexBucket = (long)Math.floor(
+                        Double.longBitsToDouble(distanceBits.get(vertex)) / delta);
+
+                if(vertexBucket == bucket)
+                    current.add(vertex);
+                else if(vertexBucket > bucket)
+                    buckets.computeIfAbsent(vertexBucket, key -> IntStream.builder())
+                           .add(vertex);
+            }
+
+            return current.build().toArray();
+        }
     }
 }
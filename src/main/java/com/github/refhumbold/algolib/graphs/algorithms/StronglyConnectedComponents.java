@@ -1,114 +1,384 @@
 package com.github.refhumbold.algolib.graphs.algorithms;
 
+import java.io.Serial;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import com.github.refhumbold.algolib.graphs.CompactDirectedGraph;
+import com.github.refhumbold.algolib.graphs.CompactGraph;
 import com.github.refhumbold.algolib.graphs.DirectedGraph;
+import com.github.refhumbold.algolib.graphs.DirectedSimpleGraph;
+import com.github.refhumbold.algolib.graphs.IntGraph;
 import com.github.refhumbold.algolib.graphs.Vertex;
-import com.github.refhumbold.algolib.graphs.algorithms.strategy.DfsStrategy;
 
 /** Algorithm for strongly connected components. */
 public final class StronglyConnectedComponents
 {
     /**
-     * Computes strongly connected components in given directed graph.
+     * Computes strongly connected components in given directed graph. Components are listed in
+     * topological order of the condensation of the graph.
      * @param graph the directed graph
      * @return the vertices in strongly connected components
      */
     public static <VertexId, VertexProperty, EdgeProperty> List<Set<Vertex<VertexId>>> findScc(
             DirectedGraph<VertexId, VertexProperty, EdgeProperty> graph)
     {
-        PostOrderStrategy<VertexId> postOrderStrategy = new PostOrderStrategy<>();
+        CompactDirectedGraph<VertexId, VertexProperty, EdgeProperty> compactGraph =
+                toCompact(graph);
 
-        Searching.dfsRecursive(graph, postOrderStrategy, graph.getVertices());
+        return toSets(compactGraph, findSccIndices(compactGraph));
+    }
 
-        List<Vertex<VertexId>> vertices = postOrderStrategy.postTimes.entrySet()
-                                                                     .stream()
-                                                                     .sorted(new ReversedPostOrderComparator<>())
-                                                                     .map(Map.Entry::getKey)
-                                                                     .collect(Collectors.toList());
-        DirectedGraph<VertexId, VertexProperty, EdgeProperty> reversedGraph = graph.reversedCopy();
-        SccStrategy<VertexId> sccStrategy = new SccStrategy<>();
+    /**
+     * Computes strongly connected components in given directed graph in parallel in the common
+     * fork-join pool.
+     * @param graph the directed graph
+     * @return the vertices in strongly connected components
+     */
+    public static <VertexId, VertexProperty, EdgeProperty> List<Set<Vertex<VertexId>>> parallelFindScc(
+            DirectedGraph<VertexId, VertexProperty, EdgeProperty> graph)
+    {
+        return parallelFindScc(graph, ForkJoinPool.commonPool());
+    }
 
-        Searching.dfsRecursive(reversedGraph, sccStrategy, vertices);
+    /**
+     * Computes strongly connected components in given directed graph in parallel in given
+     * fork-join pool. Components are listed in no particular order.
+     * @param graph the directed graph
+     * @param pool the fork-join pool for searching
+     * @return the vertices in strongly connected components
+     */
+    public static <VertexId, VertexProperty, EdgeProperty> List<Set<Vertex<VertexId>>> parallelFindScc(
+            DirectedGraph<VertexId, VertexProperty, EdgeProperty> graph, ForkJoinPool pool)
+    {
+        CompactDirectedGraph<VertexId, VertexProperty, EdgeProperty> compactGraph =
+                toCompact(graph);
 
-        return sccStrategy.components;
+        return toSets(compactGraph, parallelFindSccIndices(compactGraph, pool));
     }
 
-    private static class ReversedPostOrderComparator<VertexId>
-            implements Comparator<Map.Entry<VertexId, Integer>>
+    /**
+     * Computes strongly connected components in given directed graph with integer vertices using
+     * the forward-backward algorithm with trimming. Vertices with no predecessors or no successors
+     * are trimmed as single components, then vertices both reachable from and leading to a random
+     * pivot form its component. Remaining vertices split into three independent subproblems, which
+     * are solved in parallel in given fork-join pool. Components are numbered from zero in no
+     * particular order.
+     * @param graph the directed graph with integer vertices
+     * @param pool the fork-join pool for searching
+     * @return the component number for each vertex
+     */
+    public static int[] parallelFindSccIndices(IntGraph graph, ForkJoinPool pool)
     {
+        ForwardBackward forwardBackward = new ForwardBackward(graph);
 
-        @Override
-        public int compare(Map.Entry<VertexId, Integer> entry1, Map.Entry<VertexId, Integer> entry2)
-        {
-            return entry2.getValue().compareTo(entry1.getValue());
-        }
+        pool.invoke(forwardBackward.new Decomposition(null,
+                IntStream.range(0, graph.getVerticesCount()).toArray(), 0));
+        return forwardBackward.components;
     }
 
-    private static class PostOrderStrategy<VertexId>
-            implements DfsStrategy<VertexId>
+    /**
+     * Computes strongly connected components in given directed graph with integer vertices using
+     * Pearce's single-pass algorithm. Components are numbered from zero in topological order of
+     * the condensation of the graph, so every edge between different components leads to a
+     * component with greater number.
+     * @param graph the directed graph with integer vertices
+     * @return the component number for each vertex
+     */
+    public static int[] findSccIndices(IntGraph graph)
     {
-        final Map<Vertex<VertexId>, Integer> postTimes = new HashMap<>();
-        int timer = 0;
+        int verticesCount = graph.getVerticesCount();
+        // index of vertex on the current path, or component number counted down when finished
+        int[] rindex = new int[verticesCount];
+        boolean[] isRoot = new boolean[verticesCount];
+        int[] vertexStack = new int[verticesCount];
+        int stackSize = 0;
+        int[] pathStack = new int[verticesCount];
+        // cursors are reused by all vertices at the same depth
+        List<IntGraph.NeighbourCursor> cursors = new ArrayList<>();
+        int index = 1;
+        int component = verticesCount - 1;
 
-        @Override
-        public void forRoot(Vertex<VertexId> root)
+        for(int root = 0; root < verticesCount; ++root)
         {
-        }
+            if(rindex[root] != 0)
+                continue;
 
-        @Override
-        public void onEntry(Vertex<VertexId> vertex)
-        {
-        }
+            int depth = 0;
 
-        @Override
-        public void onNextVertex(Vertex<VertexId> vertex, Vertex<VertexId> neighbour)
-        {
-        }
+            pathStack[depth] = root;
+            rindex[root] = index++;
+            isRoot[root] = true;
 
-        @Override
-        public void onExit(Vertex<VertexId> vertex)
-        {
-            postTimes.put(vertex, timer);
-            ++timer;
+            if(cursors.isEmpty())
+                cursors.add(graph.neighbourCursor());
+
+            cursors.get(depth++).reset(root);
+
+            while(depth > 0)
+            {
+                int vertex = pathStack[depth - 1];
+                IntGraph.NeighbourCursor cursor = cursors.get(depth - 1);
+
+                if(cursor.hasNext())
+                {
+                    int neighbour = cursor.next();
+
+                    if(rindex[neighbour] == 0)
+                    {
+                        if(depth == cursors.size())
+                            cursors.add(graph.neighbourCursor());
+
+                        pathStack[depth] = neighbour;
+                        rindex[neighbour] = index++;
+                        isRoot[neighbour] = true;
+                        cursors.get(depth++).reset(neighbour);
+                    }
+                    else if(rindex[neighbour] < rindex[vertex])
+                    {
+                        rindex[vertex] = rindex[neighbour];
+                        isRoot[vertex] = false;
+                    }
+
+                    continue;
+                }
+
+                --depth;
+
+                if(isRoot[vertex])
+                {
+                    --index;
+
+                    while(stackSize > 0 && rindex[vertex] <= rindex[vertexStack[stackSize - 1]])
+                    {
+                        rindex[vertexStack[--stackSize]] = component;
+                        --index;
+                    }
+
+                    rindex[vertex] = component;
+                    --component;
+                }
+                else
+                    vertexStack[stackSize++] = vertex;
+
+                if(depth > 0 && rindex[vertex] < rindex[pathStack[depth - 1]])
+                {
+                    rindex[pathStack[depth - 1]] = rindex[vertex];
+                    isRoot[pathStack[depth - 1]] = false;
+                }
+            }
         }
 
-        @Override
-        public void onEdgeToVisited(Vertex<VertexId> vertex, Vertex<VertexId> neighbour)
+        for(int vertex = 0; vertex < verticesCount; ++vertex)
+            rindex[vertex] -= component + 1;
+
+        return rindex;
+    }
+
+    /**
+     * Computes the condensation of given directed graph. Each vertex of the condensation is the
+     * number of a strongly connected component with the set of its vertices as property, and
+     * components are numbered in topological order.
+     * @param graph the directed graph
+     * @return the acyclic graph of strongly connected components
+     */
+    public static <VertexId, VertexProperty, EdgeProperty> DirectedSimpleGraph<Integer, Set<Vertex<VertexId>>, Void> condensation(
+            DirectedGraph<VertexId, VertexProperty, EdgeProperty> graph)
+    {
+        CompactDirectedGraph<VertexId, VertexProperty, EdgeProperty> compactGraph =
+                toCompact(graph);
+        int[] components = findSccIndices(compactGraph);
+        int componentsCount = IntStream.of(components).max().orElse(-1) + 1;
+        DirectedSimpleGraph<Integer, Set<Vertex<VertexId>>, Void> condensation =
+                new DirectedSimpleGraph<>();
+
+        for(int i = 0; i < componentsCount; ++i)
+            condensation.addVertex(i, new HashSet<>());
+
+        for(int vertex = 0; vertex < components.length; ++vertex)
         {
+            Vertex<Integer> source = condensation.getVertex(components[vertex]);
+
+            condensation.getProperties().get(source).add(compactGraph.vertexAt(vertex));
+            compactGraph.forEachNeighbour(vertex, neighbour -> {
+                Vertex<Integer> destination = condensation.getVertex(components[neighbour]);
+
+                if(!source.equals(destination)
+                        && condensation.getEdge(source, destination) == null)
+                    condensation.addEdgeBetween(source, destination);
+            });
         }
+
+        return condensation;
+    }
+
+    private static <VertexId> List<Set<Vertex<VertexId>>> toSets(
+            CompactGraph<VertexId, ?, ?> graph, int[] components)
+    {
+        int componentsCount = IntStream.of(components).max().orElse(-1) + 1;
+        List<Set<Vertex<VertexId>>> sccs = new ArrayList<>(componentsCount);
+
+        for(int i = 0; i < componentsCount; ++i)
+            sccs.add(new HashSet<>());
+
+        for(int vertex = 0; vertex < components.length; ++vertex)
+            sccs.get(components[vertex]).add(graph.vertexAt(vertex));
+
+        return sccs;
+    }
+
+    private static <VertexId, VertexProperty, EdgeProperty> CompactDirectedGraph<VertexId, VertexProperty, EdgeProperty> toCompact(
+            DirectedGraph<VertexId, VertexProperty, EdgeProperty> graph)
+    {
+        return graph instanceof CompactDirectedGraph<VertexId, VertexProperty, EdgeProperty> g
+                ? g
+                : new CompactDirectedGraph<>(graph);
     }
 
-    private static class SccStrategy<VertexId>
-            implements DfsStrategy<VertexId>
+    // State of parallel forward-backward search with a partition label for each vertex.
+    private static final class ForwardBackward
     {
-        final List<Set<Vertex<VertexId>>> components = new ArrayList<>();
+        // searches expand frontiers in parallel only above this size
+        private static final int PARALLEL_THRESHOLD = 256;
+        // trimming is repeated while each round removes at least this part of vertices
+        private static final int TRIM_FACTOR = 32;
+        private static final int TRIMMED = -1;
+        private final IntGraph graph;
+        private final AtomicIntegerArray partitions;
+        private final int[] components;
+        private final AtomicInteger partitionsCount = new AtomicInteger(1);
+        private final AtomicInteger componentsCount = new AtomicInteger();
 
-        @Override
-        public void forRoot(Vertex<VertexId> root)
+        ForwardBackward(IntGraph graph)
         {
-            components.add(new HashSet<>());
+            this.graph = graph;
+            partitions = new AtomicIntegerArray(graph.getVerticesCount());
+            components = new int[graph.getVerticesCount()];
         }
 
-        @Override
-        public void onEntry(Vertex<VertexId> vertex)
+        // Removes vertices with no predecessors or no successors in given partition.
+        private int[] trim(int[] vertices, int partition)
         {
-            components.getLast().add(vertex);
+            int[] remaining = vertices;
+            int trimmedCount;
+
+            do
+            {
+                int[] trimmed = stream(remaining).filter(vertex -> {
+                    IntPredicate inPartition =
+                            neighbour -> neighbour != vertex
+                                    && partitions.get(neighbour) == partition;
+
+                    return graph.findNeighbour(vertex, inPartition) < 0
+                            || graph.findIncomingNeighbour(vertex, inPartition) < 0;
+                }).toArray();
+
+                for(int vertex : trimmed)
+                {
+                    components[vertex] = componentsCount.getAndIncrement();
+                    partitions.set(vertex, TRIMMED);
+                }
+
+                trimmedCount = trimmed.length;
+
+                if(trimmedCount > 0)
+                    remaining = stream(remaining).filter(
+                            vertex -> partitions.get(vertex) == partition).toArray();
+            } while(trimmedCount > 0 && trimmedCount * TRIM_FACTOR >= remaining.length);
+
+            return remaining;
         }
 
-        @Override
-        public void onNextVertex(Vertex<VertexId> vertex, Vertex<VertexId> neighbour)
+        // Relabels all vertices reachable from the pivot along or against edges.
+        private void search(int pivot, boolean isForward, IntUnaryOperator relabel)
         {
+            int[] frontier = {pivot};
+
+            while(frontier.length > 0)
+                frontier = stream(frontier).mapMulti((vertex, consumer) -> {
+                    IntConsumer visit = neighbour -> {
+                        int label = partitions.get(neighbour);
+                        int newLabel = relabel.applyAsInt(label);
+
+                        if(newLabel >= 0 && partitions.compareAndSet(neighbour, label, newLabel))
+                            consumer.accept(neighbour);
+                    };
+
+                    if(isForward)
+                        graph.forEachNeighbour(vertex, visit);
+                    else
+                        graph.forEachIncomingNeighbour(vertex, visit);
+                }).toArray();
         }
 
-        @Override
-        public void onExit(Vertex<VertexId> vertex)
+        private IntStream stream(int[] vertices)
         {
+            IntStream stream = IntStream.of(vertices);
+
+            return vertices.length > PARALLEL_THRESHOLD ? stream.parallel() : stream;
         }
 
-        @Override
-        public void onEdgeToVisited(Vertex<VertexId> vertex, Vertex<VertexId> neighbour)
+        // Subproblem of finding components in vertices with the same partition label.
+        private final class Decomposition
+                extends CountedCompleter<Void>
         {
+            @Serial private static final long serialVersionUID = 4712693740182236516L;
+            private final int[] vertices;
+            private final int partition;
+
+            Decomposition(CountedCompleter<?> completer, int[] vertices, int partition)
+            {
+                super(completer);
+                this.vertices = vertices;
+                this.partition = partition;
+            }
+
+            @Override
+            public void compute()
+            {
+                int[] remaining = trim(vertices, partition);
+
+                if(remaining.length > 0)
+                {
+                    int pivot = remaining[ThreadLocalRandom.current().nextInt(remaining.length)];
+                    int forward = partitionsCount.getAndIncrement();
+                    int backward = partitionsCount.getAndIncrement();
+                    int component = partitionsCount.getAndIncrement();
+
+                    partitions.set(pivot, forward);
+                    search(pivot, true, label -> label == partition ? forward : -1);
+                    partitions.set(pivot, component);
+                    search(pivot, false, label -> label == forward ? component
+                                                  : label == partition ? backward : -1);
+
+                    int componentIndex = componentsCount.getAndIncrement();
+
+                    for(int vertex : stream(remaining).filter(
+                            vertex -> partitions.get(vertex) == component).toArray())
+                        components[vertex] = componentIndex;
+
+                    for(int label : new int[]{forward, backward, partition})
+                    {
+                        int[] subproblem = stream(remaining).filter(
+                                vertex -> partitions.get(vertex) == label).toArray();
+
+                        if(subproblem.length > 0)
+                        {
+                            addToPendingCount(1);
+                            new Decomposition(this, subproblem, label).fork();
+                        }
+                    }
+                }
+
+                tryComplete();
+            }
         }
     }
 }
@@ -1,9 +1,13 @@
 package com.github.refhumbold.algolib.graphs.algorithms;
 
 import java.util.*;
+import java.util.stream.IntStream;
 import com.github.refhumbold.algolib.graphs.DirectedGraph;
+import com.github.refhumbold.algolib.graphs.IntGraph;
 import com.github.refhumbold.algolib.graphs.Vertex;
 import com.github.refhumbold.algolib.graphs.algorithms.strategy.DfsStrategy;
+import com.github.refhumbold.algolib.graphs.algorithms.strategy.IntDfsStrategy;
+import com.github.refhumbold.algolib.structures.heaps.IndexedHeap;
 
 /** Algorithms for topological sorting of a directed acyclic graph. */
 public final class TopologicalSorting
@@ -87,12 +91,77 @@ public final class TopologicalSorting
             return new ArrayList<>(graph.getVertices());
 
         TopologicalStrategy<VertexId> strategy = new TopologicalStrategy<>();
-        Searching.dfsRecursive(graph, strategy, graph.getVertices());
+        Searching.dfsIterative(graph, strategy, graph.getVertices());
 
         Collections.reverse(strategy.order);
         return strategy.order;
     }
 
+    /**
+     * Topologically sorts the vertices of given directed acyclic graph using predecessors counting.
+     * Vertices with no predecessors are taken in order of their indices.
+     * @param graph the directed acyclic graph with integer vertices
+     * @return the topological order of vertex indices
+     * @throws DirectedCyclicGraphException if the graph contains a cycle
+     */
+    public static int[] inputsTopologicalSort(IntGraph graph)
+            throws DirectedCyclicGraphException
+    {
+        int[] order = new int[graph.getVerticesCount()];
+        int orderSize = 0;
+        int[] inputDegrees = new int[graph.getVerticesCount()];
+        IntGraph.NeighbourCursor cursor = graph.neighbourCursor();
+        // vertices are prioritized by their own indices
+        IndexedHeap vertexQueue = new IndexedHeap(graph.getVerticesCount());
+
+        for(int vertex = 0; vertex < graph.getVerticesCount(); ++vertex)
+        {
+            inputDegrees[vertex] = graph.getInputDegree(vertex);
+
+            if(inputDegrees[vertex] == 0)
+                vertexQueue.add(vertex, vertex);
+        }
+
+        while(!vertexQueue.isEmpty())
+        {
+            int vertex = vertexQueue.remove();
+
+            order[orderSize++] = vertex;
+            cursor.reset(vertex);
+
+            while(cursor.hasNext())
+            {
+                int neighbour = cursor.next();
+
+                --inputDegrees[neighbour];
+
+                if(inputDegrees[neighbour] == 0)
+                    vertexQueue.add(neighbour, neighbour);
+            }
+        }
+
+        if(orderSize != graph.getVerticesCount())
+            throw new DirectedCyclicGraphException("Given graph contains a cycle");
+
+        return order;
+    }
+
+    /**
+     * Topologically sorts the vertices of given directed acyclic graph using depth-first search.
+     * @param graph the directed acyclic graph with integer vertices
+     * @return the topological order of vertex indices
+     * @throws DirectedCyclicGraphException if the graph contains a cycle
+     */
+    public static int[] dfsTopologicalSort(IntGraph graph)
+            throws DirectedCyclicGraphException
+    {
+        IntTopologicalStrategy strategy = new IntTopologicalStrategy(graph.getVerticesCount());
+
+        Searching.dfsIterative(graph, strategy,
+                IntStream.range(0, graph.getVerticesCount()).toArray());
+        return strategy.order;
+    }
+
     private static class TopologicalStrategy<VertexId>
             implements DfsStrategy<VertexId>
     {
@@ -125,4 +194,44 @@ public final class TopologicalSorting
             throw new DirectedCyclicGraphException("Given graph contains a cycle");
         }
     }
+
+    private static class IntTopologicalStrategy
+            implements IntDfsStrategy
+    {
+        final int[] order;
+        int position;
+
+        IntTopologicalStrategy(int verticesCount)
+        {
+            order = new int[verticesCount];
+            position = verticesCount;
+        }
+
+        @Override
+        public void forRoot(int root)
+        {
+        }
+
+        @Override
+        public void onEntry(int vertex)
+        {
+        }
+
+        @Override
+        public void onNextVertex(int vertex, int neighbour)
+        {
+        }
+
+        @Override
+        public void onExit(int vertex)
+        {
+            order[--position] = vertex;
+        }
+
+        @Override
+        public void onEdgeToVisited(int vertex, int neighbour)
+        {
+            throw new DirectedCyclicGraphException("Given graph contains a cycle");
+        }
+    }
 }
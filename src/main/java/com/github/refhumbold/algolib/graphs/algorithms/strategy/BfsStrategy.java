@@ -11,4 +11,15 @@ public interface BfsStrategy<VertexId>
     void onNextVertex(Vertex<VertexId> vertex, Vertex<VertexId> neighbour);
 
     void onExit(Vertex<VertexId> vertex);
+
+    /**
+     * Decides how searching proceeds after entering given vertex. By default searching always
+     * continues.
+     * @param vertex the vertex just entered
+     * @return the action of searching
+     */
+    default SearchAction afterEntry(Vertex<VertexId> vertex)
+    {
+        return SearchAction.CONTINUE;
+    }
 }
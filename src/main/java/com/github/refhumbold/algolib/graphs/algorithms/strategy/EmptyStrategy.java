@@ -3,7 +3,7 @@ package com.github.refhumbold.algolib.graphs.algorithms.strategy;
 import com.github.refhumbold.algolib.graphs.Vertex;
 
 public class EmptyStrategy<VertexId>
-        implements DfsStrategy<VertexId>
+        implements DfsStrategy<VertexId>, IntDfsStrategy
 {
     @Override
     public void forRoot(Vertex<VertexId> root)
@@ -29,4 +29,29 @@ public class EmptyStrategy<VertexId>
     public void onEdgeToVisited(Vertex<VertexId> vertex, Vertex<VertexId> neighbour)
     {
     }
+
+    @Override
+    public void forRoot(int root)
+    {
+    }
+
+    @Override
+    public void onEntry(int vertex)
+    {
+    }
+
+    @Override
+    public void onNextVertex(int vertex, int neighbour)
+    {
+    }
+
+    @Override
+    public void onExit(int vertex)
+    {
+    }
+
+    @Override
+    public void onEdgeToVisited(int vertex, int neighbour)
+    {
+    }
 }
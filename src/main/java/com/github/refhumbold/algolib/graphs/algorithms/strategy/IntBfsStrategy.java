@@ -0,0 +1,23 @@
+package com.github.refhumbold.algolib.graphs.algorithms.strategy;
+
+public interface IntBfsStrategy
+{
+    void forRoot(int root);
+
+    void onEntry(int vertex);
+
+    void onNextVertex(int vertex, int neighbour);
+
+    void onExit(int vertex);
+
+    /**
+     * Decides how searching proceeds after entering given vertex. By default searching always
+     * continues.
+     * @param vertex the vertex index just entered
+     * @return the action of searching
+     */
+    default SearchAction afterEntry(int vertex)
+    {
+        return SearchAction.CONTINUE;
+    }
+}
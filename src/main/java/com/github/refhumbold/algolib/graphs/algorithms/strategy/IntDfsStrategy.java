@@ -0,0 +1,7 @@
+package com.github.refhumbold.algolib.graphs.algorithms.strategy;
+
+public interface IntDfsStrategy
+        extends IntBfsStrategy
+{
+    void onEdgeToVisited(int vertex, int neighbour);
+}
@@ -0,0 +1,12 @@
+package com.github.refhumbold.algolib.graphs.algorithms.strategy;
+
+/** Actions that decide how graph searching proceeds after entering a vertex. */
+public enum SearchAction
+{
+    /** Searching proceeds to neighbours of the vertex. */
+    CONTINUE,
+    /** Neighbours of the vertex are not searched from it, but searching goes on elsewhere. */
+    SKIP_SUBTREE,
+    /** Searching ends immediately. */
+    STOP
+}
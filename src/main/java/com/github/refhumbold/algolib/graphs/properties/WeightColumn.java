@@ -0,0 +1,66 @@
+package com.github.refhumbold.algolib.graphs.properties;
+
+import java.util.function.IntToDoubleFunction;
+
+/** Structure of edge weights stored in a single array indexed by edge index. */
+public final class WeightColumn
+{
+    private final double[] weights;
+    private final double minimalWeight;
+
+    private WeightColumn(double[] weights)
+    {
+        this.weights = weights;
+
+        double minimum = Weighted.INFINITY;
+
+        for(double weight : weights)
+            minimum = Math.min(minimum, weight);
+
+        minimalWeight = minimum;
+    }
+
+    /**
+     * Creates new column of weights of given number of edges.
+     * @param edgesCount the number of edges
+     * @param weight the function computing weight of an edge from its index
+     * @return the column of weights
+     */
+    public static WeightColumn of(int edgesCount, IntToDoubleFunction weight)
+    {
+        double[] weights = new double[edgesCount];
+
+        for(int i = 0; i < edgesCount; ++i)
+            weights[i] = weight.applyAsDouble(i);
+
+        return new WeightColumn(weights);
+    }
+
+    /**
+     * Gets the weight of given edge.
+     * @param edge the edge index
+     * @return the weight of the edge
+     */
+    public double get(int edge)
+    {
+        return weights[edge];
+    }
+
+    /**
+     * Gets the number of weights in this column.
+     * @return the number of edges
+     */
+    public int size()
+    {
+        return weights.length;
+    }
+
+    /**
+     * Gets the minimal weight in this column.
+     * @return the minimal weight, or {@link Weighted#INFINITY} if there are no edges
+     */
+    public double getMinimalWeight()
+    {
+        return minimalWeight;
+    }
+}
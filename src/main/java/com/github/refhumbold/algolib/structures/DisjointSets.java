@@ -117,13 +117,26 @@ public class DisjointSets<E>
      */
     public E findSet(E element)
     {
-        if(represents.get(element) == null)
+        E represent = represents.get(element);
+
+        if(represent == null)
             throw new NoSuchElementException("Element does not belong to the structure");
 
-        if(!Objects.equals(represents.get(element), element))
-            represents.put(element, findSet(represents.get(element)));
+        E root = element;
+
+        while(!Objects.equals(represent, root))
+        {
+            root = represent;
+            represent = represents.get(root);
+        }
+
+        // compress the path so that all elements on it point directly to the root
+        E current = element;
+
+        while(!Objects.equals(current, root))
+            current = represents.put(current, root);
 
-        return represents.get(element);
+        return root;
     }
 
     /**
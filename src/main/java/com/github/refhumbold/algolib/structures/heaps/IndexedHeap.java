@@ -0,0 +1,209 @@
+package com.github.refhumbold.algolib.structures.heaps;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Structure of d-ary heap of integer keys from a fixed range with double priorities. Each key is
+ * present at most once and its priority can be decreased in place.
+ */
+public class IndexedHeap
+{
+    private static final int DEFAULT_ARITY = 4;
+    private final int arity;
+    private final int[] heap;
+    private final int[] positions;
+    private final double[] priorities;
+    private int size_ = 0;
+
+    public IndexedHeap(int capacity)
+    {
+        this(capacity, DEFAULT_ARITY);
+    }
+
+    public IndexedHeap(int capacity, int arity)
+    {
+        if(arity < 2)
+            throw new IllegalArgumentException("Heap arity must be at least 2");
+
+        this.arity = arity;
+        heap = new int[capacity];
+        positions = new int[capacity];
+        priorities = new double[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    /**
+     * Checks whether this heap is empty.
+     * @return {@code true} if the heap is empty, otherwise {@code false}
+     */
+    public boolean isEmpty()
+    {
+        return size_ == 0;
+    }
+
+    /**
+     * Gets the number of keys in this heap.
+     * @return the number of keys
+     */
+    public int size()
+    {
+        return size_;
+    }
+
+    /** Removes all keys from this heap. */
+    public void clear()
+    {
+        for(int i = 0; i < size_; ++i)
+            positions[heap[i]] = -1;
+
+        size_ = 0;
+    }
+
+    /**
+     * Checks whether given key is in this heap.
+     * @param key the key
+     * @return {@code true} if the key is in the heap, otherwise {@code false}
+     */
+    public boolean contains(int key)
+    {
+        return positions[key] >= 0;
+    }
+
+    /**
+     * Gets the priority of given key.
+     * @param key the key from this heap
+     * @return the priority of the key
+     * @throws NoSuchElementException if the key is not in the heap
+     */
+    public double getPriority(int key)
+    {
+        if(!contains(key))
+            throw new NoSuchElementException("Key %d is not in the heap".formatted(key));
+
+        return priorities[key];
+    }
+
+    /**
+     * Retrieves the key with minimal priority from this heap.
+     * @return the key with minimal priority
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int element()
+    {
+        if(size_ == 0)
+            throw new NoSuchElementException("Heap is empty");
+
+        return heap[0];
+    }
+
+    /**
+     * Adds new key with given priority to this heap.
+     * @param key the new key
+     * @param priority the priority of the key
+     * @throws IllegalArgumentException if the key is already in the heap
+     */
+    public void add(int key, double priority)
+    {
+        if(contains(key))
+            throw new IllegalArgumentException("Key %d is already in the heap".formatted(key));
+
+        priorities[key] = priority;
+        heap[size_] = key;
+        positions[key] = size_;
+        ++size_;
+        moveUp(size_ - 1);
+    }
+
+    /**
+     * Retrieves and removes the key with minimal priority from this heap.
+     * @return the removed key with minimal priority
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int remove()
+    {
+        int key = element();
+
+        --size_;
+        positions[key] = -1;
+
+        if(size_ > 0)
+        {
+            heap[0] = heap[size_];
+            positions[heap[0]] = 0;
+            moveDown(0);
+        }
+
+        return key;
+    }
+
+    /**
+     * Decreases the priority of given key in this heap.
+     * @param key the key from this heap
+     * @param priority the new priority of the key
+     * @throws NoSuchElementException if the key is not in the heap
+     * @throws IllegalArgumentException if the new priority is greater than the current one
+     */
+    public void decreaseKey(int key, double priority)
+    {
+        if(priority > getPriority(key))
+            throw new IllegalArgumentException(
+                    "New priority %f is greater than current %f".formatted(priority,
+                            priorities[key]));
+
+        priorities[key] = priority;
+        moveUp(positions[key]);
+    }
+
+    // Moves the key at given position towards the root until heap order is restored.
+    private void moveUp(int position)
+    {
+        int key = heap[position];
+
+        while(position > 0)
+        {
+            int parent = (position - 1) / arity;
+
+            if(priorities[heap[parent]] <= priorities[key])
+                break;
+
+            heap[position] = heap[parent];
+            positions[heap[position]] = position;
+            position = parent;
+        }
+
+        heap[position] = key;
+        positions[key] = position;
+    }
+
+    // Moves the key at given position towards the leaves until heap order is restored.
+    private void moveDown(int position)
+    {
+        int key = heap[position];
+
+        while(true)
+        {
+            int firstChild = position * arity + 1;
+
+            if(firstChild >= size_)
+                break;
+
+            int minChild = firstChild;
+            int lastChild = Math.min(firstChild + arity, size_);
+
+            for(int child = firstChild + 1; child < lastChild; ++child)
+                if(priorities[heap[child]] < priorities[heap[minChild]])
+                    minChild = child;
+
+            if(priorities[heap[minChild]] >= priorities[key])
+                break;
+
+            heap[position] = heap[minChild];
+            positions[heap[position]] = position;
+            position = minChild;
+        }
+
+        heap[position] = key;
+        positions[key] = position;
+    }
+}
@@ -0,0 +1,340 @@
+package com.github.refhumbold.algolib.graphs;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.github.refhumbold.algolib.graphs.properties.WeightColumn;
+import com.github.refhumbold.algolib.graphs.properties.Weighted;
+
+// Tests: Structure of immutable directed graph stored in compressed sparse rows.
+public class CompactDirectedGraphTest
+{
+    private DirectedSimpleGraph<Integer, String, String> graph;
+    private CompactDirectedGraph<Integer, String, String> testObject;
+
+    @BeforeEach
+    public void setUp()
+    {
+        graph = new DirectedSimpleGraph<>(
+                IntStream.range(0, 10).boxed().collect(Collectors.toList()));
+        graph.addEdgeBetween(new Vertex<>(1), new Vertex<>(2), "a");
+        graph.addEdgeBetween(new Vertex<>(3), new Vertex<>(5));
+        graph.addEdgeBetween(new Vertex<>(4), new Vertex<>(9));
+        graph.addEdgeBetween(new Vertex<>(5), new Vertex<>(4));
+        graph.addEdgeBetween(new Vertex<>(5), new Vertex<>(7), "b");
+        graph.addEdgeBetween(new Vertex<>(6), new Vertex<>(2));
+        graph.addEdgeBetween(new Vertex<>(6), new Vertex<>(6), "c");
+        graph.addEdgeBetween(new Vertex<>(7), new Vertex<>(8));
+        graph.addEdgeBetween(new Vertex<>(9), new Vertex<>(1));
+        graph.addEdgeBetween(new Vertex<>(9), new Vertex<>(6));
+        graph.getProperties().set(new Vertex<>(5), "x");
+        testObject = new CompactDirectedGraph<>(graph);
+    }
+
+    @Test
+    public void getProperties_get_ThenCopiedProperties()
+    {
+        // when
+        String resultVertex = testObject.getProperties().get(new Vertex<>(5));
+        String resultEdge1 = testObject.getProperties().get(testObject.getEdge(5, 7));
+        String resultEdge2 = testObject.getProperties().get(testObject.getEdge(6, 6));
+        String resultEdge3 = testObject.getProperties().get(testObject.getEdge(3, 5));
+
+        // then
+        Assertions.assertThat(resultVertex).isEqualTo("x");
+        Assertions.assertThat(resultEdge1).isEqualTo("b");
+        Assertions.assertThat(resultEdge2).isEqualTo("c");
+        Assertions.assertThat(resultEdge3).isNull();
+    }
+
+    @Test
+    public void getProperties_set_get_WhenSettingProperty_ThenPropertyOnlyInCompactGraph()
+    {
+        // given
+        Vertex<Integer> vertex = testObject.getVertex(2);
+        Edge<Integer> edge = testObject.getEdge(7, 8);
+
+        // when
+        testObject.getProperties().set(vertex, "y");
+        testObject.getProperties().set(edge, "z");
+
+        // then
+        Assertions.assertThat(testObject.getProperties().get(vertex)).isEqualTo("y");
+        Assertions.assertThat(testObject.getProperties().get(edge)).isEqualTo("z");
+        Assertions.assertThat(graph.getProperties().get(vertex)).isNull();
+        Assertions.assertThat(graph.getProperties().get(edge)).isNull();
+    }
+
+    @Test
+    public void getProperties_get_WhenNotExisting_ThenIllegalArgumentException()
+    {
+        // given
+        Vertex<Integer> vertex = new Vertex<>(14);
+        Edge<Integer> edge1 = new Edge<>(new Vertex<>(2), new Vertex<>(8));
+        Edge<Integer> edge2 = new Edge<>(new Vertex<>(2), new Vertex<>(1));
+
+        // then
+        Assertions.assertThatThrownBy(() -> testObject.getProperties().get(vertex))
+                  .isInstanceOf(IllegalArgumentException.class);
+        Assertions.assertThatThrownBy(() -> testObject.getProperties().get(edge1))
+                  .isInstanceOf(IllegalArgumentException.class);
+        Assertions.assertThatThrownBy(() -> testObject.getProperties().get(edge2))
+                  .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void getVerticesCount_ThenNumberOfVertices()
+    {
+        // when
+        int result = testObject.getVerticesCount();
+
+        // then
+        Assertions.assertThat(result).isEqualTo(10);
+    }
+
+    @Test
+    public void getEdgesCount_ThenNumberOfEdges()
+    {
+        // when
+        int result = testObject.getEdgesCount();
+
+        // then
+        Assertions.assertThat(result).isEqualTo(10);
+    }
+
+    @Test
+    public void getVertices_ThenAllVertices()
+    {
+        // when
+        Collection<Vertex<Integer>> result = testObject.getVertices();
+
+        // then
+        Assertions.assertThat(result).hasSameElementsAs(graph.getVertices());
+    }
+
+    @Test
+    public void getEdges_ThenAllEdges()
+    {
+        // when
+        Collection<Edge<Integer>> result = testObject.getEdges();
+
+        // then
+        Assertions.assertThat(result).containsExactlyInAnyOrderElementsOf(graph.getEdges());
+    }
+
+    @Test
+    public void getVertex_WhenNotExists_ThenNull()
+    {
+        // when
+        Vertex<Integer> result = testObject.getVertex(16);
+
+        // then
+        Assertions.assertThat(result).isNull();
+    }
+
+    @Test
+    public void getEdge_WhenInDirection_ThenEdge()
+    {
+        // when
+        Edge<Integer> result = testObject.getEdge(9, 1);
+
+        // then
+        Assertions.assertThat(result).isEqualTo(new Edge<>(new Vertex<>(9), new Vertex<>(1)));
+    }
+
+    @Test
+    public void getEdge_WhenReversedDirection_ThenNull()
+    {
+        // when
+        Edge<Integer> result = testObject.getEdge(1, 9);
+
+        // then
+        Assertions.assertThat(result).isNull();
+    }
+
+    @Test
+    public void getNeighbours_ThenDestinationVerticesOfOutgoingEdges()
+    {
+        // when
+        Collection<Vertex<Integer>> result = testObject.getNeighbours(new Vertex<>(9));
+
+        // then
+        Assertions.assertThat(result).containsExactly(new Vertex<>(1), new Vertex<>(6));
+    }
+
+    @Test
+    public void getAdjacentEdges_ThenOutgoingEdges()
+    {
+        // when
+        Collection<Edge<Integer>> result = testObject.getAdjacentEdges(new Vertex<>(6));
+
+        // then
+        Assertions.assertThat(result)
+                  .containsExactlyInAnyOrder(new Edge<>(new Vertex<>(6), new Vertex<>(2)),
+                          new Edge<>(new Vertex<>(6), new Vertex<>(6)));
+    }
+
+    @Test
+    public void getOutputDegree_ThenNumberOfOutgoingEdges()
+    {
+        // when
+        int result = testObject.getOutputDegree(new Vertex<>(5));
+
+        // then
+        Assertions.assertThat(result).isEqualTo(2);
+    }
+
+    @Test
+    public void getInputDegree_ThenNumberOfIncomingEdges()
+    {
+        // when
+        int result = testObject.getInputDegree(new Vertex<>(2));
+
+        // then
+        Assertions.assertThat(result).isEqualTo(2);
+    }
+
+    @Test
+    public void getIncomingEdges_ThenEdgesWithVertexAsDestination()
+    {
+        // when
+        Collection<Edge<Integer>> result = testObject.getIncomingEdges(new Vertex<>(6));
+
+        // then
+        Assertions.assertThat(result)
+                  .containsExactlyInAnyOrder(new Edge<>(new Vertex<>(6), new Vertex<>(6)),
+                          new Edge<>(new Vertex<>(9), new Vertex<>(6)));
+    }
+
+    @Test
+    public void incomingCursor_ThenIncomingNeighboursWithIndicesOfEdges()
+    {
+        // given
+        IntGraph.NeighbourCursor cursor = testObject.incomingCursor();
+        List<Integer> neighbours = new ArrayList<>();
+        List<Integer> edges = new ArrayList<>();
+
+        // when
+        cursor.reset(testObject.indexOf(new Vertex<>(6)));
+
+        while(cursor.hasNext())
+        {
+            neighbours.add(testObject.vertexAt(cursor.next()).id());
+            edges.add(cursor.edge());
+        }
+
+        // then
+        Assertions.assertThat(neighbours).containsExactly(6, 9);
+        Assertions.assertThat(edges)
+                  .containsExactly(testObject.indexOf(testObject.getEdge(6, 6)),
+                          testObject.indexOf(testObject.getEdge(9, 6)));
+    }
+
+    @Test
+    public void indexOf_WhenEdge_ThenIndexOfEdge()
+    {
+        // then
+        Assertions.assertThat(testObject.indexOf(testObject.getEdge(5, 7))).isNotNegative();
+        Assertions.assertThat(testObject.indexOf(new Edge<>(new Vertex<>(7), new Vertex<>(5))))
+                  .isEqualTo(-1);
+    }
+
+    @Test
+    public void getWeightColumn_WhenPropertySet_ThenNewWeights()
+    {
+        // given
+        DirectedSimpleGraph<Integer, Void, Weighted> simpleGraph =
+                new DirectedSimpleGraph<>(List.of(0, 1, 2));
+        simpleGraph.addEdgeBetween(new Vertex<>(0), new Vertex<>(1), () -> 3.0);
+        simpleGraph.addEdgeBetween(new Vertex<>(1), new Vertex<>(2), () -> 5.0);
+
+        CompactDirectedGraph<Integer, Void, Weighted> weightedGraph =
+                new CompactDirectedGraph<>(simpleGraph);
+
+        Edge<Integer> edge = weightedGraph.getEdge(1, 2);
+        WeightColumn before = weightedGraph.getWeightColumn();
+
+        // when
+        weightedGraph.getProperties().set(edge, () -> 1.0);
+
+        WeightColumn result = weightedGraph.getWeightColumn();
+
+        // then
+        Assertions.assertThat(before.get(weightedGraph.indexOf(edge))).isEqualTo(5.0);
+        Assertions.assertThat(result.get(weightedGraph.indexOf(edge))).isEqualTo(1.0);
+        Assertions.assertThat(result.getMinimalWeight()).isEqualTo(1.0);
+    }
+
+    @Test
+    public void indexOf_vertexAt_ThenSameVertex()
+    {
+        // given
+        Vertex<Integer> vertex = new Vertex<>(7);
+
+        // when
+        int index = testObject.indexOf(vertex);
+        Vertex<Integer> result = testObject.vertexAt(index);
+
+        // then
+        Assertions.assertThat(result).isEqualTo(vertex);
+        Assertions.assertThat(testObject.indexOf(new Vertex<>(17))).isEqualTo(-1);
+    }
+
+    @Test
+    public void reverse_ThenUnsupportedOperationException()
+    {
+        // then
+        Assertions.assertThatThrownBy(() -> testObject.reverse())
+                  .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void reversedCopy_ThenAllEdgesHaveReversedDirection()
+    {
+        // when
+        CompactDirectedGraph<Integer, String, String> result = testObject.reversedCopy();
+
+        // then
+        Assertions.assertThat(result.getEdges())
+                  .containsOnly(new Edge<>(new Vertex<>(1), new Vertex<>(9)),
+                          new Edge<>(new Vertex<>(2), new Vertex<>(1)),
+                          new Edge<>(new Vertex<>(2), new Vertex<>(6)),
+                          new Edge<>(new Vertex<>(4), new Vertex<>(5)),
+                          new Edge<>(new Vertex<>(5), new Vertex<>(3)),
+                          new Edge<>(new Vertex<>(6), new Vertex<>(6)),
+                          new Edge<>(new Vertex<>(6), new Vertex<>(9)),
+                          new Edge<>(new Vertex<>(7), new Vertex<>(5)),
+                          new Edge<>(new Vertex<>(8), new Vertex<>(7)),
+                          new Edge<>(new Vertex<>(9), new Vertex<>(4)));
+        Assertions.assertThat(result.getProperties().get(new Vertex<>(5))).isEqualTo("x");
+        Assertions.assertThat(result.getProperties().get(result.getEdge(2, 1))).isEqualTo("a");
+        Assertions.assertThat(result.getProperties().get(result.getEdge(7, 5))).isEqualTo("b");
+        Assertions.assertThat(result.getProperties().get(result.getEdge(5, 3))).isNull();
+        Assertions.assertThat(result.getInputDegree(new Vertex<>(2))).isZero();
+        Assertions.assertThat(result.getOutputDegree(new Vertex<>(2))).isEqualTo(2);
+        Assertions.assertThat(result.getIncomingEdges(new Vertex<>(9)))
+                  .containsExactly(new Edge<>(new Vertex<>(1), new Vertex<>(9)),
+                          new Edge<>(new Vertex<>(6), new Vertex<>(9)));
+    }
+
+    @Test
+    public void reversedCopy_ThenNewGraphWithReversedEdges()
+    {
+        // when
+        DirectedGraph<Integer, String, String> result = testObject.reversedCopy();
+
+        // then
+        Assertions.assertThat(result.getVertices()).hasSameElementsAs(testObject.getVertices());
+        Assertions.assertThat(result.getEdges())
+                  .containsExactlyInAnyOrderElementsOf(
+                          graph.getEdges().stream().map(Edge::reversed).toList());
+        Assertions.assertThat(result.getProperties().get(result.getEdge(2, 1))).isEqualTo("a");
+        Assertions.assertThat(testObject.getEdge(1, 2)).isNotNull();
+        Assertions.assertThat(testObject.getEdge(2, 1)).isNull();
+    }
+}
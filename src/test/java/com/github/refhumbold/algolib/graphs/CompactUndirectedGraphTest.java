@@ -0,0 +1,166 @@
+package com.github.refhumbold.algolib.graphs;
+
+import java.util.Collection;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+// Tests: Structure of immutable undirected graph stored in compressed sparse rows.
+public class CompactUndirectedGraphTest
+{
+    private UndirectedSimpleGraph<Integer, String, String> graph;
+    private CompactUndirectedGraph<Integer, String, String> testObject;
+
+    @BeforeEach
+    public void setUp()
+    {
+        graph = new UndirectedSimpleGraph<>(
+                IntStream.range(0, 10).boxed().collect(Collectors.toList()));
+        graph.addEdgeBetween(new Vertex<>(1), new Vertex<>(5), "a");
+        graph.addEdgeBetween(new Vertex<>(7), new Vertex<>(7), "b");
+        graph.addEdgeBetween(new Vertex<>(2), new Vertex<>(4));
+        graph.addEdgeBetween(new Vertex<>(8), new Vertex<>(0));
+        graph.addEdgeBetween(new Vertex<>(6), new Vertex<>(3));
+        graph.addEdgeBetween(new Vertex<>(9), new Vertex<>(3), "c");
+        graph.getProperties().set(new Vertex<>(3), "x");
+        testObject = new CompactUndirectedGraph<>(graph);
+    }
+
+    @Test
+    public void getProperties_get_ThenCopiedProperties()
+    {
+        // when
+        String resultVertex = testObject.getProperties().get(new Vertex<>(3));
+        String resultEdge1 = testObject.getProperties().get(testObject.getEdge(5, 1));
+        String resultEdge2 = testObject.getProperties().get(testObject.getEdge(7, 7));
+        String resultEdge3 = testObject.getProperties().get(testObject.getEdge(3, 9));
+        String resultEdge4 = testObject.getProperties().get(testObject.getEdge(2, 4));
+
+        // then
+        Assertions.assertThat(resultVertex).isEqualTo("x");
+        Assertions.assertThat(resultEdge1).isEqualTo("a");
+        Assertions.assertThat(resultEdge2).isEqualTo("b");
+        Assertions.assertThat(resultEdge3).isEqualTo("c");
+        Assertions.assertThat(resultEdge4).isNull();
+    }
+
+    @Test
+    public void getProperties_get_WhenNotExisting_ThenIllegalArgumentException()
+    {
+        // given
+        Vertex<Integer> vertex = new Vertex<>(14);
+        Edge<Integer> edge1 = new Edge<>(new Vertex<>(2), new Vertex<>(8));
+        Edge<Integer> edge2 = new Edge<>(new Vertex<>(0), new Vertex<>(-1));
+
+        // then
+        Assertions.assertThatThrownBy(() -> testObject.getProperties().get(vertex))
+                  .isInstanceOf(IllegalArgumentException.class);
+        Assertions.assertThatThrownBy(() -> testObject.getProperties().get(edge1))
+                  .isInstanceOf(IllegalArgumentException.class);
+        Assertions.assertThatThrownBy(() -> testObject.getProperties().get(edge2))
+                  .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void getEdgesCount_ThenNumberOfEdges()
+    {
+        // when
+        int result = testObject.getEdgesCount();
+
+        // then
+        Assertions.assertThat(result).isEqualTo(6);
+    }
+
+    @Test
+    public void getEdges_ThenAllEdges()
+    {
+        // when
+        Collection<Edge<Integer>> result = testObject.getEdges();
+
+        // then
+        Assertions.assertThat(result).containsExactlyInAnyOrderElementsOf(graph.getEdges());
+    }
+
+    @Test
+    public void getEdge_WhenInDirection_ThenEdge()
+    {
+        // when
+        Edge<Integer> result = testObject.getEdge(9, 3);
+
+        // then
+        Assertions.assertThat(result).isEqualTo(new Edge<>(new Vertex<>(9), new Vertex<>(3)));
+    }
+
+    @Test
+    public void getEdge_WhenReversedDirection_ThenEdge()
+    {
+        // when
+        Edge<Integer> result = testObject.getEdge(3, 9);
+
+        // then
+        Assertions.assertThat(result).isEqualTo(new Edge<>(new Vertex<>(9), new Vertex<>(3)));
+    }
+
+    @Test
+    public void getEdge_WhenNotExists_ThenNull()
+    {
+        // when
+        Edge<Integer> result = testObject.getEdge(1, 2);
+
+        // then
+        Assertions.assertThat(result).isNull();
+    }
+
+    @Test
+    public void getNeighbours_ThenVerticesOfAdjacentEdges()
+    {
+        // when
+        Collection<Vertex<Integer>> result = testObject.getNeighbours(new Vertex<>(3));
+
+        // then
+        Assertions.assertThat(result).containsExactly(new Vertex<>(6), new Vertex<>(9));
+    }
+
+    @Test
+    public void getAdjacentEdges_ThenAdjacentEdges()
+    {
+        // when
+        Collection<Edge<Integer>> result = testObject.getAdjacentEdges(new Vertex<>(3));
+
+        // then
+        Assertions.assertThat(result)
+                  .containsExactlyInAnyOrder(new Edge<>(new Vertex<>(6), new Vertex<>(3)),
+                          new Edge<>(new Vertex<>(9), new Vertex<>(3)));
+    }
+
+    @Test
+    public void getOutputDegree_getInputDegree_ThenNumberOfAdjacentEdges()
+    {
+        // given
+        Vertex<Integer> vertex1 = new Vertex<>(3);
+        Vertex<Integer> vertex2 = new Vertex<>(7);
+
+        // then
+        Assertions.assertThat(testObject.getOutputDegree(vertex1)).isEqualTo(2);
+        Assertions.assertThat(testObject.getInputDegree(vertex1)).isEqualTo(2);
+        Assertions.assertThat(testObject.getOutputDegree(vertex2)).isEqualTo(1);
+    }
+
+    @Test
+    public void asDirected_ThenDirectedGraph()
+    {
+        // when
+        DirectedGraph<Integer, String, String> result = testObject.asDirected();
+
+        // then
+        Assertions.assertThat(result.getVertices()).hasSameElementsAs(testObject.getVertices());
+        Assertions.assertThat(result.getEdges())
+                  .containsExactlyInAnyOrderElementsOf(graph.asDirected().getEdges());
+        Assertions.assertThat(result.getProperties().get(new Vertex<>(3))).isEqualTo("x");
+        Assertions.assertThat(result.getProperties().get(result.getEdge(1, 5))).isEqualTo("a");
+        Assertions.assertThat(result.getProperties().get(result.getEdge(5, 1))).isEqualTo("a");
+        Assertions.assertThat(result.getProperties().get(result.getEdge(7, 7))).isEqualTo("b");
+    }
+}
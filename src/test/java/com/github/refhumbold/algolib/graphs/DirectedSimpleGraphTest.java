@@ -292,6 +292,44 @@ public class DirectedSimpleGraphTest
         Assertions.assertThat(result).isEqualTo(5);
     }
 
+    @Test
+    public void getIncomingEdges_ThenEdgesWithVertexAsDestination()
+    {
+        // given
+        testObject.addEdgeBetween(new Vertex<>(1), new Vertex<>(1));
+        testObject.addEdgeBetween(new Vertex<>(3), new Vertex<>(1));
+        testObject.addEdgeBetween(new Vertex<>(7), new Vertex<>(1));
+        testObject.addEdgeBetween(new Vertex<>(1), new Vertex<>(2));
+
+        // when
+        Collection<Edge<Integer>> result = testObject.getIncomingEdges(new Vertex<>(1));
+
+        // then
+        Assertions.assertThat(result)
+                  .containsExactlyInAnyOrder(new Edge<>(new Vertex<>(1), new Vertex<>(1)),
+                          new Edge<>(new Vertex<>(3), new Vertex<>(1)),
+                          new Edge<>(new Vertex<>(7), new Vertex<>(1)));
+    }
+
+    @Test
+    public void getInputDegree_WhenReversed_ThenNumberOfFormerOutgoingEdges()
+    {
+        // given
+        testObject.addEdgeBetween(new Vertex<>(1), new Vertex<>(2));
+        testObject.addEdgeBetween(new Vertex<>(1), new Vertex<>(6));
+        testObject.addEdgeBetween(new Vertex<>(3), new Vertex<>(1));
+
+        // when
+        testObject.reverse();
+
+        int result = testObject.getInputDegree(new Vertex<>(1));
+
+        // then
+        Assertions.assertThat(result).isEqualTo(2);
+        Assertions.assertThat(testObject.getIncomingEdges(new Vertex<>(3)))
+                  .containsExactly(new Edge<>(new Vertex<>(1), new Vertex<>(3)));
+    }
+
     @Test
     public void addVertex_WhenNewVertex_ThenCreatedVertex()
     {
@@ -0,0 +1,105 @@
+package com.github.refhumbold.algolib.graphs;
+
+import java.util.Collection;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+// Tests: Structure of directed graph with reversed edges backed by another directed graph.
+public class ReversedGraphViewTest
+{
+    private DirectedSimpleGraph<Integer, String, String> graph;
+    private DirectedGraph<Integer, String, String> testObject;
+
+    @BeforeEach
+    public void setUp()
+    {
+        graph = new DirectedSimpleGraph<>(
+                IntStream.range(0, 10).boxed().collect(Collectors.toList()));
+        graph.addEdgeBetween(new Vertex<>(1), new Vertex<>(2), "a");
+        graph.addEdgeBetween(new Vertex<>(3), new Vertex<>(5));
+        graph.addEdgeBetween(new Vertex<>(5), new Vertex<>(4));
+        graph.addEdgeBetween(new Vertex<>(5), new Vertex<>(7));
+        graph.addEdgeBetween(new Vertex<>(6), new Vertex<>(6));
+        graph.addEdgeBetween(new Vertex<>(9), new Vertex<>(5));
+        testObject = graph.reversedView();
+    }
+
+    @Test
+    public void getEdges_ThenReversedEdges()
+    {
+        // when
+        Collection<Edge<Integer>> result = testObject.getEdges();
+
+        // then
+        Assertions.assertThat(result)
+                  .containsExactlyInAnyOrderElementsOf(
+                          graph.getEdges().stream().map(Edge::reversed).toList());
+    }
+
+    @Test
+    public void getEdge_ThenReversedEdge()
+    {
+        // then
+        Assertions.assertThat(testObject.getEdge(2, 1))
+                  .isEqualTo(new Edge<>(new Vertex<>(2), new Vertex<>(1)));
+        Assertions.assertThat(testObject.getEdge(1, 2)).isNull();
+    }
+
+    @Test
+    public void getNeighbours_getAdjacentEdges_ThenSourcesOfIncomingEdges()
+    {
+        // given
+        Vertex<Integer> vertex = new Vertex<>(5);
+
+        // then
+        Assertions.assertThat(testObject.getNeighbours(vertex))
+                  .containsExactlyInAnyOrder(new Vertex<>(3), new Vertex<>(9));
+        Assertions.assertThat(testObject.getAdjacentEdges(vertex))
+                  .containsExactlyInAnyOrder(new Edge<>(vertex, new Vertex<>(3)),
+                          new Edge<>(vertex, new Vertex<>(9)));
+        Assertions.assertThat(testObject.getIncomingEdges(vertex))
+                  .containsExactlyInAnyOrder(new Edge<>(new Vertex<>(4), vertex),
+                          new Edge<>(new Vertex<>(7), vertex));
+        Assertions.assertThat(testObject.getOutputDegree(vertex)).isEqualTo(2);
+        Assertions.assertThat(testObject.getInputDegree(vertex)).isEqualTo(2);
+    }
+
+    @Test
+    public void getProperties_set_get_ThenPropertyOfOriginalEdge()
+    {
+        // given
+        Edge<Integer> edge = testObject.getEdge(4, 5);
+
+        // when
+        testObject.getProperties().set(edge, "b");
+
+        // then
+        Assertions.assertThat(testObject.getProperties().get(testObject.getEdge(2, 1)))
+                  .isEqualTo("a");
+        Assertions.assertThat(graph.getProperties().get(graph.getEdge(5, 4))).isEqualTo("b");
+    }
+
+    @Test
+    public void getEdges_WhenOriginalGraphChanged_ThenChangeVisible()
+    {
+        // when
+        graph.addEdgeBetween(new Vertex<>(0), new Vertex<>(8));
+
+        // then
+        Assertions.assertThat(testObject.getEdge(8, 0)).isNotNull();
+        Assertions.assertThat(testObject.getEdgesCount()).isEqualTo(7);
+    }
+
+    @Test
+    public void reversedView_ThenOriginalGraph()
+    {
+        // when
+        DirectedGraph<Integer, String, String> result = testObject.reversedView();
+
+        // then
+        Assertions.assertThat(result).isSameAs(graph);
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.refhumbold.algolib.graphs;
+
+import java.util.Collection;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+// Tests: Structure of directed graph backed by an undirected graph.
+public class SymmetricGraphViewTest
+{
+    private UndirectedSimpleGraph<Integer, String, String> graph;
+    private DirectedGraph<Integer, String, String> testObject;
+
+    @BeforeEach
+    public void setUp()
+    {
+        graph = new UndirectedSimpleGraph<>(
+                IntStream.range(0, 10).boxed().collect(Collectors.toList()));
+        graph.addEdgeBetween(new Vertex<>(1), new Vertex<>(5), "a");
+        graph.addEdgeBetween(new Vertex<>(7), new Vertex<>(7), "b");
+        graph.addEdgeBetween(new Vertex<>(2), new Vertex<>(4));
+        graph.addEdgeBetween(new Vertex<>(6), new Vertex<>(3));
+        graph.addEdgeBetween(new Vertex<>(9), new Vertex<>(3));
+        testObject = graph.asDirectedView();
+    }
+
+    @Test
+    public void getEdges_ThenSameAsDirectedCopy()
+    {
+        // when
+        Collection<Edge<Integer>> result = testObject.getEdges();
+
+        // then
+        Assertions.assertThat(result)
+                  .containsExactlyInAnyOrderElementsOf(graph.asDirected().getEdges());
+        Assertions.assertThat(testObject.getEdgesCount()).isEqualTo(9);
+    }
+
+    @Test
+    public void getEdge_ThenEdgeInGivenDirection()
+    {
+        // then
+        Assertions.assertThat(testObject.getEdge(5, 1))
+                  .isEqualTo(new Edge<>(new Vertex<>(5), new Vertex<>(1)));
+        Assertions.assertThat(testObject.getEdge(1, 5))
+                  .isEqualTo(new Edge<>(new Vertex<>(1), new Vertex<>(5)));
+        Assertions.assertThat(testObject.getEdge(1, 2)).isNull();
+    }
+
+    @Test
+    public void getAdjacentEdges_getIncomingEdges_ThenEdgesDirectedFromAndToVertex()
+    {
+        // given
+        Vertex<Integer> vertex = new Vertex<>(3);
+
+        // then
+        Assertions.assertThat(testObject.getAdjacentEdges(vertex))
+                  .containsExactlyInAnyOrder(new Edge<>(vertex, new Vertex<>(6)),
+                          new Edge<>(vertex, new Vertex<>(9)));
+        Assertions.assertThat(testObject.getIncomingEdges(vertex))
+                  .containsExactlyInAnyOrder(new Edge<>(new Vertex<>(6), vertex),
+                          new Edge<>(new Vertex<>(9), vertex));
+    }
+
+    @Test
+    public void getProperties_get_ThenPropertyForBothDirections()
+    {
+        // then
+        Assertions.assertThat(testObject.getProperties().get(testObject.getEdge(1, 5)))
+                  .isEqualTo("a");
+        Assertions.assertThat(testObject.getProperties().get(testObject.getEdge(5, 1)))
+                  .isEqualTo("a");
+        Assertions.assertThat(testObject.getProperties().get(testObject.getEdge(7, 7)))
+                  .isEqualTo("b");
+    }
+}
@@ -0,0 +1,159 @@
+package com.github.refhumbold.algolib.graphs.algorithms;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.github.refhumbold.algolib.geometry.dim2.Geometry2D;
+import com.github.refhumbold.algolib.geometry.dim2.Point2D;
+import com.github.refhumbold.algolib.geometry.dim3.Point3D;
+import com.github.refhumbold.algolib.graphs.UndirectedSimpleGraph;
+import com.github.refhumbold.algolib.graphs.Vertex;
+import com.github.refhumbold.algolib.graphs.properties.Weighted;
+
+// Tests: Algorithm A* for shortest path between two vertices in a weighted graph.
+public class AStarTest
+{
+    private static final Offset<Double> OFFSET = Offset.offset(1e-6);
+    private UndirectedSimpleGraph<Integer, Point2D, Weight> graph;
+
+    @BeforeEach
+    public void setUp()
+    {
+        // grid 5 x 5 with vertex (x, y) at index 5 * y + x and edges longer than their span
+        graph = new UndirectedSimpleGraph<>(
+                IntStream.range(0, 25).boxed().collect(Collectors.toList()));
+
+        for(int i = 0; i < 25; ++i)
+            graph.getProperties().set(graph.getVertex(i), Point2D.of(i % 5, i / 5));
+
+        for(int i = 0; i < 25; ++i)
+        {
+            if(i % 5 < 4)
+                addEdge(i, i + 1, 1.0 + (i * 7 % 3));
+
+            if(i / 5 < 4)
+                addEdge(i, i + 5, 1.0 + (i * 5 % 4));
+        }
+    }
+
+    @Test
+    public void findPath_WhenEuclideanHeuristic_ThenSameLengthAsDijkstra()
+    {
+        for(Vertex<Integer> target : graph.getVertices())
+        {
+            // when
+            Path<Integer> result = AStar.findPath(graph, graph.getVertex(0), target,
+                    AStar.euclidean2D(graph, target));
+
+            // then
+            Assertions.assertThat(result.length())
+                      .isCloseTo(ShortestPaths.dijkstra(graph, graph.getVertex(0), target)
+                                              .length(), OFFSET);
+            Assertions.assertThat(result.edges()
+                                        .stream()
+                                        .mapToDouble(edge -> graph.getProperties()
+                                                                  .get(edge)
+                                                                  .getWeight())
+                                        .sum()).isCloseTo(result.length(), OFFSET);
+        }
+    }
+
+    @Test
+    public void findPath_WhenZeroHeuristic_ThenShortestPath()
+    {
+        // when
+        Path<Integer> result =
+                AStar.findPath(graph, graph.getVertex(24), graph.getVertex(0), vertex -> 0.0);
+
+        // then
+        Assertions.assertThat(result.length())
+                  .isCloseTo(ShortestPaths.dijkstra(graph, graph.getVertex(24))
+                                          .get(graph.getVertex(0)), OFFSET);
+    }
+
+    @Test
+    public void findPath_WhenTargetUnreachable_ThenUnreachablePath()
+    {
+        // given
+        Vertex<Integer> isolated = graph.addVertex(25, Point2D.of(9, 9));
+
+        // when
+        Path<Integer> result = AStar.findPath(graph, graph.getVertex(0), isolated,
+                AStar.euclidean2D(graph, isolated));
+
+        // then
+        Assertions.assertThat(result.isReachable()).isFalse();
+        Assertions.assertThat(result.edges()).isEmpty();
+    }
+
+    @Test
+    public void findPath_WhenNegativeEdge_ThenIllegalStateException()
+    {
+        // given
+        graph.addEdgeBetween(graph.getVertex(0), graph.getVertex(6), new Weight(-1.0));
+
+        // then
+        Assertions.assertThatThrownBy(
+                          () -> AStar.findPath(graph, graph.getVertex(0), graph.getVertex(24),
+                                  vertex -> 0.0))
+                  .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void euclidean2D_ThenStraightLineDistanceToTarget()
+    {
+        // when
+        double result = AStar.euclidean2D(graph, graph.getVertex(24))
+                             .applyAsDouble(graph.getVertex(0));
+
+        // then
+        Assertions.assertThat(result).isCloseTo(Math.sqrt(32.0), OFFSET);
+    }
+
+    @Test
+    public void euclidean3D_ThenStraightLineDistanceToTarget()
+    {
+        // given
+        UndirectedSimpleGraph<Integer, Point3D, Weight> spaceGraph =
+                new UndirectedSimpleGraph<>(IntStream.range(0, 2).boxed().toList());
+
+        spaceGraph.getProperties().set(spaceGraph.getVertex(0), Point3D.of(1, 2, 3));
+        spaceGraph.getProperties().set(spaceGraph.getVertex(1), Point3D.of(3, 5, 9));
+
+        // when
+        double result = AStar.euclidean3D(spaceGraph, spaceGraph.getVertex(1))
+                             .applyAsDouble(spaceGraph.getVertex(0));
+
+        // then
+        Assertions.assertThat(result).isCloseTo(7.0, OFFSET);
+    }
+
+    private void addEdge(int source, int destination, double factor)
+    {
+        double span = Geometry2D.distance(graph.getProperties().get(graph.getVertex(source)),
+                graph.getProperties().get(graph.getVertex(destination)));
+
+        graph.addEdgeBetween(graph.getVertex(source), graph.getVertex(destination),
+                new Weight(factor * span));
+    }
+
+    private static final class Weight
+            implements Weighted
+    {
+        private final double weight;
+
+        private Weight(double weight)
+        {
+            this.weight = weight;
+        }
+
+        @Override
+        public double getWeight()
+        {
+            return weight;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.github.refhumbold.algolib.graphs.algorithms;
+
+import java.io.*;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.github.refhumbold.algolib.graphs.DirectedSimpleGraph;
+import com.github.refhumbold.algolib.graphs.Edge;
+import com.github.refhumbold.algolib.graphs.Vertex;
+import com.github.refhumbold.algolib.graphs.properties.Weighted;
+
+// Tests: Structure of contraction hierarchies for shortest paths queries in a static directed weighted graph.
+public class ContractionHierarchiesTest
+{
+    private static final Offset<Double> OFFSET = Offset.offset(1e-9);
+    private DirectedSimpleGraph<Integer, Void, Weight> graph;
+
+    @BeforeEach
+    public void setUp()
+    {
+        // grid 6 x 6 with vertex (x, y) at index 6 * y + x and edges in both directions
+        graph = new DirectedSimpleGraph<>(
+                IntStream.range(0, 36).boxed().collect(Collectors.toList()));
+
+        for(int i = 0; i < 36; ++i)
+        {
+            if(i % 6 < 5)
+            {
+                addEdge(i, i + 1, 1.0 + i * 7 % 5);
+                addEdge(i + 1, i, 2.0 + i * 3 % 4);
+            }
+
+            if(i / 6 < 5)
+            {
+                addEdge(i, i + 6, 1.0 + i * 5 % 3);
+
+                if(i % 4 != 0)
+                    addEdge(i + 6, i, 3.0 + i % 2);
+            }
+        }
+    }
+
+    @Test
+    public void build_WhenNegativeEdge_ThenIllegalStateException()
+    {
+        // given
+        graph.addEdgeBetween(graph.getVertex(0), graph.getVertex(7), new Weight(-1.0));
+
+        // then
+        Assertions.assertThatThrownBy(() -> ContractionHierarchies.build(graph))
+                  .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void build_ThenAllVerticesOrdered()
+    {
+        // when
+        ContractionHierarchies<Integer> result = ContractionHierarchies.build(graph);
+
+        // then
+        Assertions.assertThat(result.getVertexOrder())
+                  .containsExactlyInAnyOrderElementsOf(
+                          IntStream.range(0, 36).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void distance_ThenSameAsDijkstra()
+    {
+        // given
+        ContractionHierarchies<Integer> testObject = ContractionHierarchies.build(graph);
+
+        // then
+        for(Vertex<Integer> source : graph.getVertices())
+        {
+            Map<Vertex<Integer>, Double> distances = ShortestPaths.dijkstra(graph, source);
+
+            for(Vertex<Integer> target : graph.getVertices())
+                Assertions.assertThat(testObject.distance(source, target))
+                          .isCloseTo(distances.get(target), OFFSET);
+        }
+    }
+
+    @Test
+    public void distance_WhenQueriedInParallel_ThenSameAsDijkstra()
+    {
+        // given
+        ContractionHierarchies<Integer> testObject = ContractionHierarchies.build(graph);
+        List<Vertex<Integer>> vertices = List.copyOf(graph.getVertices());
+
+        // when
+        double[] result = IntStream.range(0, vertices.size() * vertices.size())
+                                   .parallel()
+                                   .mapToDouble(i -> testObject.distance(
+                                           vertices.get(i / vertices.size()),
+                                           vertices.get(i % vertices.size())))
+                                   .toArray();
+
+        // then
+        for(int i = 0; i < result.length; ++i)
+            Assertions.assertThat(result[i])
+                      .isCloseTo(ShortestPaths.dijkstra(graph, vertices.get(i / vertices.size()))
+                                              .get(vertices.get(i % vertices.size())), OFFSET);
+    }
+
+    @Test
+    public void findPath_ThenPathOfOriginalEdges()
+    {
+        // given
+        ContractionHierarchies<Integer> testObject = ContractionHierarchies.build(graph);
+
+        for(Vertex<Integer> target : graph.getVertices())
+        {
+            // when
+            Path<Integer> result = testObject.findPath(graph.getVertex(35), target);
+
+            // then
+            Vertex<Integer> vertex = graph.getVertex(35);
+            double length = 0.0;
+
+            for(Edge<Integer> edge : result.edges())
+            {
+                Assertions.assertThat(edge.source()).isEqualTo(vertex);
+                Assertions.assertThat(graph.getEdge(edge.source(), edge.destination()))
+                          .isEqualTo(edge);
+                length += graph.getProperties().get(edge).getWeight();
+                vertex = edge.destination();
+            }
+
+            Assertions.assertThat(vertex).isEqualTo(target);
+            Assertions.assertThat(length).isCloseTo(result.length(), OFFSET);
+            Assertions.assertThat(result.length())
+                      .isCloseTo(ShortestPaths.dijkstra(graph, graph.getVertex(35), target)
+                                              .length(), OFFSET);
+        }
+    }
+
+    @Test
+    public void findPath_WhenTargetUnreachable_ThenUnreachablePath()
+    {
+        // given
+        Vertex<Integer> isolated = graph.addVertex(36);
+        ContractionHierarchies<Integer> testObject = ContractionHierarchies.build(graph);
+
+        // when
+        Path<Integer> result = testObject.findPath(graph.getVertex(0), isolated);
+
+        // then
+        Assertions.assertThat(result.isReachable()).isFalse();
+        Assertions.assertThat(result.edges()).isEmpty();
+    }
+
+    @Test
+    public void findPath_WhenVertexNotInHierarchy_ThenIllegalArgumentException()
+    {
+        // given
+        ContractionHierarchies<Integer> testObject = ContractionHierarchies.build(graph);
+
+        // then
+        Assertions.assertThatThrownBy(
+                          () -> testObject.findPath(graph.getVertex(0), new Vertex<>(100)))
+                  .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void findPath_WhenSerializedAndDeserialized_ThenSameResults()
+            throws IOException, ClassNotFoundException
+    {
+        // given
+        ContractionHierarchies<Integer> hierarchies = ContractionHierarchies.build(graph);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try(ObjectOutputStream output = new ObjectOutputStream(bytes))
+        {
+            output.writeObject(hierarchies);
+        }
+
+        // when
+        ContractionHierarchies<Integer> result;
+
+        try(ObjectInputStream input = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray())))
+        {
+            @SuppressWarnings("unchecked")
+            ContractionHierarchies<Integer> readHierarchies =
+                    (ContractionHierarchies<Integer>)input.readObject();
+
+            result = readHierarchies;
+        }
+
+        // then
+        Path<Integer> expected = hierarchies.findPath(graph.getVertex(0), graph.getVertex(35));
+
+        Assertions.assertThat(result.getVertexOrder()).isEqualTo(hierarchies.getVertexOrder());
+        Assertions.assertThat(result.getShortcuts()).hasSameSizeAs(hierarchies.getShortcuts());
+        Assertions.assertThat(result.findPath(graph.getVertex(0), graph.getVertex(35)))
+                  .isEqualTo(expected);
+    }
+
+    private void addEdge(int source, int destination, double weight)
+    {
+        graph.addEdgeBetween(graph.getVertex(source), graph.getVertex(destination),
+                new Weight(weight));
+    }
+
+    private static final class Weight
+            implements Weighted
+    {
+        private final double weight;
+
+        private Weight(double weight)
+        {
+            this.weight = weight;
+        }
+
+        @Override
+        public double getWeight()
+        {
+            return weight;
+        }
+    }
+}
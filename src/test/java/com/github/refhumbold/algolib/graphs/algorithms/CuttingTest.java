@@ -1,15 +1,18 @@
 package com.github.refhumbold.algolib.graphs.algorithms;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import com.github.refhumbold.algolib.graphs.CompactUndirectedGraph;
 import com.github.refhumbold.algolib.graphs.Edge;
 import com.github.refhumbold.algolib.graphs.UndirectedSimpleGraph;
 import com.github.refhumbold.algolib.graphs.Vertex;
 
-// Tests: Algorithms for graph cutting (edge cut and vertex cut).
+// Tests: Algorithms for graph cutting (edge cut, vertex cut and biconnected components).
 public class CuttingTest
 {
     @Test
@@ -116,4 +119,166 @@ public class CuttingTest
         // then
         Assertions.assertThat(result).isEmpty();
     }
+
+    @Test
+    public void findEdgeCut_WhenLongPath_ThenAllEdges()
+    {
+        // given
+        UndirectedSimpleGraph<Integer, Void, Void> graph = new UndirectedSimpleGraph<>(
+                IntStream.range(0, 200000).boxed().collect(Collectors.toList()));
+
+        for(int i = 1; i < 200000; ++i)
+            graph.addEdgeBetween(graph.getVertex(i - 1), graph.getVertex(i));
+
+        // when
+        Collection<Edge<Integer>> result = Cutting.findEdgeCut(graph);
+
+        // then
+        Assertions.assertThat(result).hasSize(199999);
+    }
+
+    @Test
+    public void findEdgeCutIndices_WhenPresentBridges_ThenBridgeIndices()
+    {
+        // given
+        UndirectedSimpleGraph<Integer, Void, Void> graph = new UndirectedSimpleGraph<>(
+                IntStream.range(0, 12).boxed().collect(Collectors.toList()));
+        graph.addEdgeBetween(graph.getVertex(0), graph.getVertex(1));
+        graph.addEdgeBetween(graph.getVertex(0), graph.getVertex(2));
+        graph.addEdgeBetween(graph.getVertex(0), graph.getVertex(7));
+        graph.addEdgeBetween(graph.getVertex(1), graph.getVertex(2));
+        graph.addEdgeBetween(graph.getVertex(1), graph.getVertex(3));
+        graph.addEdgeBetween(graph.getVertex(1), graph.getVertex(4));
+        graph.addEdgeBetween(graph.getVertex(3), graph.getVertex(5));
+        graph.addEdgeBetween(graph.getVertex(4), graph.getVertex(5));
+        graph.addEdgeBetween(graph.getVertex(5), graph.getVertex(6));
+        graph.addEdgeBetween(graph.getVertex(7), graph.getVertex(8));
+        graph.addEdgeBetween(graph.getVertex(7), graph.getVertex(9));
+        graph.addEdgeBetween(graph.getVertex(7), graph.getVertex(11));
+        graph.addEdgeBetween(graph.getVertex(8), graph.getVertex(9));
+        graph.addEdgeBetween(graph.getVertex(9), graph.getVertex(10));
+        graph.addEdgeBetween(graph.getVertex(9), graph.getVertex(11));
+        graph.addEdgeBetween(graph.getVertex(10), graph.getVertex(11));
+        CompactUndirectedGraph<Integer, Void, Void> compactGraph =
+                new CompactUndirectedGraph<>(graph);
+
+        // when
+        int[] result = Cutting.findEdgeCutIndices(compactGraph);
+
+        // then
+        Assertions.assertThat(result)
+                  .containsExactlyInAnyOrder(compactGraph.indexOf(graph.getEdge(0, 7)),
+                          compactGraph.indexOf(graph.getEdge(5, 6)));
+    }
+
+    @Test
+    public void findEdgeCutIndices_WhenLargeStar_ThenAllEdges()
+    {
+        // given
+        UndirectedSimpleGraph<Integer, Void, Void> graph = new UndirectedSimpleGraph<>(
+                IntStream.range(0, 200000).boxed().collect(Collectors.toList()));
+
+        for(int i = 1; i < 200000; ++i)
+            graph.addEdgeBetween(graph.getVertex(0), graph.getVertex(i));
+
+        CompactUndirectedGraph<Integer, Void, Void> compactGraph =
+                new CompactUndirectedGraph<>(graph);
+
+        // when
+        int[] result = Cutting.findEdgeCutIndices(compactGraph);
+
+        // then
+        Assertions.assertThat(IntStream.of(result).distinct().count()).isEqualTo(199999);
+    }
+
+    @Test
+    public void findVertexCutIndices_WhenPresentSeparators_ThenSeparatorIndices()
+    {
+        // given
+        UndirectedSimpleGraph<Integer, Void, Void> graph = new UndirectedSimpleGraph<>(
+                IntStream.range(0, 12).boxed().collect(Collectors.toList()));
+        graph.addEdgeBetween(graph.getVertex(0), graph.getVertex(1));
+        graph.addEdgeBetween(graph.getVertex(0), graph.getVertex(2));
+        graph.addEdgeBetween(graph.getVertex(0), graph.getVertex(7));
+        graph.addEdgeBetween(graph.getVertex(1), graph.getVertex(2));
+        graph.addEdgeBetween(graph.getVertex(1), graph.getVertex(3));
+        graph.addEdgeBetween(graph.getVertex(1), graph.getVertex(4));
+        graph.addEdgeBetween(graph.getVertex(3), graph.getVertex(5));
+        graph.addEdgeBetween(graph.getVertex(4), graph.getVertex(5));
+        graph.addEdgeBetween(graph.getVertex(5), graph.getVertex(6));
+        graph.addEdgeBetween(graph.getVertex(7), graph.getVertex(8));
+        graph.addEdgeBetween(graph.getVertex(7), graph.getVertex(9));
+        graph.addEdgeBetween(graph.getVertex(7), graph.getVertex(11));
+        graph.addEdgeBetween(graph.getVertex(8), graph.getVertex(9));
+        graph.addEdgeBetween(graph.getVertex(9), graph.getVertex(10));
+        graph.addEdgeBetween(graph.getVertex(9), graph.getVertex(11));
+        graph.addEdgeBetween(graph.getVertex(10), graph.getVertex(11));
+        CompactUndirectedGraph<Integer, Void, Void> compactGraph =
+                new CompactUndirectedGraph<>(graph);
+
+        // when
+        int[] result = Cutting.findVertexCutIndices(compactGraph);
+
+        // then
+        Assertions.assertThat(IntStream.of(result).mapToObj(compactGraph::vertexAt).toList())
+                  .containsExactlyInAnyOrder(graph.getVertex(0), graph.getVertex(1),
+                          graph.getVertex(5), graph.getVertex(7));
+    }
+
+    @Test
+    public void findBiconnectedComponents_WhenSeparators_ThenComponentsShareSeparators()
+    {
+        // given
+        UndirectedSimpleGraph<Integer, Void, Void> graph = new UndirectedSimpleGraph<>(
+                IntStream.range(0, 12).boxed().collect(Collectors.toList()));
+        graph.addEdgeBetween(graph.getVertex(0), graph.getVertex(1));
+        graph.addEdgeBetween(graph.getVertex(0), graph.getVertex(2));
+        graph.addEdgeBetween(graph.getVertex(0), graph.getVertex(7));
+        graph.addEdgeBetween(graph.getVertex(1), graph.getVertex(2));
+        graph.addEdgeBetween(graph.getVertex(1), graph.getVertex(3));
+        graph.addEdgeBetween(graph.getVertex(1), graph.getVertex(4));
+        graph.addEdgeBetween(graph.getVertex(3), graph.getVertex(5));
+        graph.addEdgeBetween(graph.getVertex(4), graph.getVertex(5));
+        graph.addEdgeBetween(graph.getVertex(5), graph.getVertex(6));
+        graph.addEdgeBetween(graph.getVertex(7), graph.getVertex(8));
+        graph.addEdgeBetween(graph.getVertex(7), graph.getVertex(9));
+        graph.addEdgeBetween(graph.getVertex(7), graph.getVertex(11));
+        graph.addEdgeBetween(graph.getVertex(8), graph.getVertex(9));
+        graph.addEdgeBetween(graph.getVertex(9), graph.getVertex(10));
+        graph.addEdgeBetween(graph.getVertex(9), graph.getVertex(11));
+        graph.addEdgeBetween(graph.getVertex(10), graph.getVertex(11));
+
+        // when
+        List<Set<Vertex<Integer>>> result = Cutting.findBiconnectedComponents(graph);
+
+        // then
+        Assertions.assertThat(result)
+                  .containsExactlyInAnyOrder(
+                          Set.of(graph.getVertex(0), graph.getVertex(1), graph.getVertex(2)),
+                          Set.of(graph.getVertex(0), graph.getVertex(7)),
+                          Set.of(graph.getVertex(1), graph.getVertex(3), graph.getVertex(4),
+                                  graph.getVertex(5)),
+                          Set.of(graph.getVertex(5), graph.getVertex(6)),
+                          Set.of(graph.getVertex(7), graph.getVertex(8), graph.getVertex(9),
+                                  graph.getVertex(10), graph.getVertex(11)));
+    }
+
+    @Test
+    public void findBiconnectedComponents_WhenIsolatedVertex_ThenNotInComponents()
+    {
+        // given
+        UndirectedSimpleGraph<Integer, Void, Void> graph = new UndirectedSimpleGraph<>(
+                IntStream.range(0, 4).boxed().collect(Collectors.toList()));
+        graph.addEdgeBetween(graph.getVertex(0), graph.getVertex(1));
+        graph.addEdgeBetween(graph.getVertex(1), graph.getVertex(2));
+        graph.addEdgeBetween(graph.getVertex(2), graph.getVertex(0));
+
+        // when
+        List<Set<Vertex<Integer>>> result = Cutting.findBiconnectedComponents(graph);
+
+        // then
+        Assertions.assertThat(result)
+                  .containsExactly(
+                          Set.of(graph.getVertex(0), graph.getVertex(1), graph.getVertex(2)));
+    }
 }
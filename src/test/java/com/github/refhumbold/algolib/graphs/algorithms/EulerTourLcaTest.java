@@ -0,0 +1,157 @@
+package com.github.refhumbold.algolib.graphs.algorithms;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.github.refhumbold.algolib.graphs.TreeGraph;
+import com.github.refhumbold.algolib.graphs.Vertex;
+
+// Tests: Structure of lowest common ancestors in a rooted tree based on range minimum queries over the Euler tour of the tree.
+public class EulerTourLcaTest
+{
+    private TreeGraph<Integer, Void, Void> tree;
+    private EulerTourLca<Integer> testObject;
+
+    @BeforeEach
+    public void setUp()
+    {
+        tree = new TreeGraph<>(0);
+        tree.addVertex(1, tree.getVertex(0));
+        tree.addVertex(2, tree.getVertex(0));
+        tree.addVertex(3, tree.getVertex(1));
+        tree.addVertex(4, tree.getVertex(1));
+        tree.addVertex(5, tree.getVertex(1));
+        tree.addVertex(6, tree.getVertex(2));
+        tree.addVertex(7, tree.getVertex(4));
+        tree.addVertex(8, tree.getVertex(6));
+        tree.addVertex(9, tree.getVertex(6));
+
+        testObject = EulerTourLca.build(tree, tree.getVertex(0));
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        tree = null;
+        testObject = null;
+    }
+
+    @Test
+    public void findLca_WhenSameVertex_ThenVertexIsLowestCommonAncestor()
+    {
+        // given
+        Vertex<Integer> vertex = tree.getVertex(6);
+
+        // when
+        Vertex<Integer> result = testObject.findLca(vertex, vertex);
+
+        // then
+        Assertions.assertThat(result).isEqualTo(vertex);
+    }
+
+    @Test
+    public void findLca_WhenVerticesInDifferentSubtrees_ThenLowestCommonAncestor()
+    {
+        // when
+        Vertex<Integer> result = testObject.findLca(tree.getVertex(5), tree.getVertex(7));
+
+        // then
+        Assertions.assertThat(result).isEqualTo(tree.getVertex(1));
+    }
+
+    @Test
+    public void findLca_WhenVerticesSwapped_ThenSameLowestCommonAncestor()
+    {
+        // given
+        Vertex<Integer> vertex1 = tree.getVertex(5);
+        Vertex<Integer> vertex2 = tree.getVertex(7);
+
+        // when
+        Vertex<Integer> result1 = testObject.findLca(vertex1, vertex2);
+        Vertex<Integer> result2 = testObject.findLca(vertex2, vertex1);
+
+        // then
+        Assertions.assertThat(result1).isEqualTo(tree.getVertex(1));
+        Assertions.assertThat(result2).isEqualTo(result1);
+    }
+
+    @Test
+    public void findLca_WhenRootIsCommonAncestor_ThenRoot()
+    {
+        // when
+        Vertex<Integer> result = testObject.findLca(tree.getVertex(3), tree.getVertex(9));
+
+        // then
+        Assertions.assertThat(result).isEqualTo(testObject.getRoot());
+    }
+
+    @Test
+    public void findLca_WhenVerticesAreOnSamePathFromRoot_ThenCloserToRoot()
+    {
+        // when
+        Vertex<Integer> result = testObject.findLca(tree.getVertex(8), tree.getVertex(2));
+
+        // then
+        Assertions.assertThat(result).isEqualTo(tree.getVertex(2));
+    }
+
+    @Test
+    public void findLca_WhenIndices_ThenIndexOfLowestCommonAncestor()
+    {
+        // when
+        int result = testObject.findLca(testObject.indexOf(tree.getVertex(7)),
+                testObject.indexOf(tree.getVertex(3)));
+
+        // then
+        Assertions.assertThat(testObject.vertexAt(result)).isEqualTo(tree.getVertex(1));
+    }
+
+    @Test
+    public void findLca_WhenVertexNotInTree_ThenIllegalArgumentException()
+    {
+        // then
+        Assertions.assertThatThrownBy(() -> testObject.findLca(tree.getVertex(1), new Vertex<>(10)))
+                  .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void findLca_WhenLargeTree_ThenSameAsWalkingToRoot()
+    {
+        // given
+        int[] parents = new int[1000];
+        TreeGraph<Integer, Void, Void> largeTree = new TreeGraph<>(0);
+
+        for(int i = 1; i < parents.length; ++i)
+        {
+            parents[i] = i * 37 % 101 % i;
+            largeTree.addVertex(i, largeTree.getVertex(parents[i]));
+        }
+
+        EulerTourLca<Integer> eulerTourLca = EulerTourLca.build(largeTree, largeTree.getVertex(0));
+
+        // then
+        for(int i = 0; i < parents.length; i += 7)
+            for(int j = 0; j < parents.length; j += 13)
+                Assertions.assertThat(eulerTourLca.findLca(largeTree.getVertex(i),
+                                  largeTree.getVertex(j)))
+                          .isEqualTo(largeTree.getVertex(walkToLca(parents, i, j)));
+    }
+
+    private static int walkToLca(int[] parents, int vertex1, int vertex2)
+    {
+        Set<Integer> ancestors = new HashSet<>();
+
+        for(int vertex = vertex1; vertex != 0; vertex = parents[vertex])
+            ancestors.add(vertex);
+
+        int vertex = vertex2;
+
+        while(vertex != 0 && !ancestors.contains(vertex))
+            vertex = parents[vertex];
+
+        return vertex;
+    }
+}
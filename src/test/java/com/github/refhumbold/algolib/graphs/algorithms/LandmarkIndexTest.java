@@ -0,0 +1,184 @@
+package com.github.refhumbold.algolib.graphs.algorithms;
+
+import java.io.*;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.github.refhumbold.algolib.graphs.DirectedSimpleGraph;
+import com.github.refhumbold.algolib.graphs.UndirectedSimpleGraph;
+import com.github.refhumbold.algolib.graphs.Vertex;
+import com.github.refhumbold.algolib.graphs.properties.Weighted;
+
+// Tests: Structure of distances between all vertices and chosen landmarks of a weighted graph.
+public class LandmarkIndexTest
+{
+    private DirectedSimpleGraph<Integer, Void, Weight> directedGraph;
+
+    @BeforeEach
+    public void setUp()
+    {
+        directedGraph = new DirectedSimpleGraph<>(
+                IntStream.range(0, 10).boxed().collect(Collectors.toList()));
+        addEdge(0, 1, 4.0);
+        addEdge(1, 4, 7.0);
+        addEdge(1, 7, 12.0);
+        addEdge(2, 4, 6.0);
+        addEdge(2, 6, 8.0);
+        addEdge(3, 0, 3.0);
+        addEdge(3, 7, 5.0);
+        addEdge(4, 5, 1.0);
+        addEdge(4, 3, 10.0);
+        addEdge(5, 6, 4.0);
+        addEdge(5, 8, 2.0);
+        addEdge(6, 5, 7.0);
+        addEdge(7, 5, 2.0);
+        addEdge(7, 8, 6.0);
+        addEdge(8, 9, 10.0);
+        addEdge(9, 6, 3.0);
+    }
+
+    @Test
+    public void build_WhenNotPositiveLandmarksCount_ThenIllegalArgumentException()
+    {
+        // then
+        Assertions.assertThatThrownBy(() -> LandmarkIndex.build(directedGraph, 0))
+                  .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void build_WhenLandmarksCount_ThenDistinctLandmarks()
+    {
+        // when
+        LandmarkIndex<Integer> result = LandmarkIndex.build(directedGraph, 3);
+
+        // then
+        Assertions.assertThat(new HashSet<>(result.getLandmarks())).hasSize(3);
+    }
+
+    @Test
+    public void lowerBound_ThenNotGreaterThanDistance()
+    {
+        // given
+        LandmarkIndex<Integer> testObject = LandmarkIndex.build(directedGraph, 3);
+
+        // then
+        for(Vertex<Integer> source : directedGraph.getVertices())
+        {
+            Map<Vertex<Integer>, Double> distances = ShortestPaths.dijkstra(directedGraph, source);
+
+            for(Vertex<Integer> target : directedGraph.getVertices())
+                Assertions.assertThat(testObject.lowerBound(source, target))
+                          .isLessThanOrEqualTo(distances.get(target));
+        }
+    }
+
+    @Test
+    public void findPath_WhenDirectedGraph_ThenSameLengthsAsDijkstra()
+    {
+        // given
+        LandmarkIndex<Integer> testObject = LandmarkIndex.build(directedGraph, 2);
+
+        // then
+        for(Vertex<Integer> source : directedGraph.getVertices())
+        {
+            Map<Vertex<Integer>, Double> distances = ShortestPaths.dijkstra(directedGraph, source);
+
+            for(Vertex<Integer> target : directedGraph.getVertices())
+                Assertions.assertThat(
+                                  testObject.findPath(directedGraph, source, target).length())
+                          .isEqualTo(distances.get(target));
+        }
+    }
+
+    @Test
+    public void findPath_WhenUndirectedGraph_ThenShortestPath()
+    {
+        // given
+        UndirectedSimpleGraph<Integer, Void, Weight> graph =
+                new UndirectedSimpleGraph<>(IntStream.range(0, 5).boxed().toList());
+
+        graph.addEdgeBetween(graph.getVertex(0), graph.getVertex(1), new Weight(2.0));
+        graph.addEdgeBetween(graph.getVertex(1), graph.getVertex(2), new Weight(2.0));
+        graph.addEdgeBetween(graph.getVertex(0), graph.getVertex(2), new Weight(5.0));
+        graph.addEdgeBetween(graph.getVertex(2), graph.getVertex(3), new Weight(1.0));
+
+        LandmarkIndex<Integer> testObject =
+                LandmarkIndex.build(graph, List.of(graph.getVertex(3)));
+
+        // when
+        Path<Integer> result = testObject.findPath(graph, graph.getVertex(0), graph.getVertex(3));
+        Path<Integer> unreachable =
+                testObject.findPath(graph, graph.getVertex(0), graph.getVertex(4));
+
+        // then
+        Assertions.assertThat(result.length()).isEqualTo(5.0);
+        Assertions.assertThat(result.edges())
+                  .containsExactly(graph.getEdge(0, 1), graph.getEdge(1, 2),
+                          graph.getEdge(2, 3));
+        Assertions.assertThat(unreachable.isReachable()).isFalse();
+    }
+
+    @Test
+    public void findPath_WhenSerializedAndDeserialized_ThenSameResults()
+            throws IOException, ClassNotFoundException
+    {
+        // given
+        LandmarkIndex<Integer> index = LandmarkIndex.build(directedGraph, 2);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try(ObjectOutputStream output = new ObjectOutputStream(bytes))
+        {
+            output.writeObject(index);
+        }
+
+        // when
+        LandmarkIndex<Integer> result;
+
+        try(ObjectInputStream input = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray())))
+        {
+            @SuppressWarnings("unchecked")
+            LandmarkIndex<Integer> readIndex = (LandmarkIndex<Integer>)input.readObject();
+
+            result = readIndex;
+        }
+
+        // then
+        Assertions.assertThat(result.getLandmarks()).isEqualTo(index.getLandmarks());
+        Assertions.assertThat(result.lowerBound(directedGraph.getVertex(1),
+                directedGraph.getVertex(9))).isEqualTo(
+                index.lowerBound(directedGraph.getVertex(1), directedGraph.getVertex(9)));
+        Assertions.assertThat(
+                          result.findPath(directedGraph, directedGraph.getVertex(1),
+                                  directedGraph.getVertex(9)).length())
+                  .isEqualTo(20.0);
+    }
+
+    private void addEdge(int source, int destination, double weight)
+    {
+        directedGraph.addEdgeBetween(directedGraph.getVertex(source),
+                directedGraph.getVertex(destination), new Weight(weight));
+    }
+
+    private static final class Weight
+            implements Weighted
+    {
+        private final double weight;
+
+        private Weight(double weight)
+        {
+            this.weight = weight;
+        }
+
+        @Override
+        public double getWeight()
+        {
+            return weight;
+        }
+    }
+}
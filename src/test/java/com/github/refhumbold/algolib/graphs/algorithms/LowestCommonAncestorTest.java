@@ -1,11 +1,16 @@
 package com.github.refhumbold.algolib.graphs.algorithms;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import com.github.refhumbold.algolib.graphs.TreeGraph;
 import com.github.refhumbold.algolib.graphs.Vertex;
+import com.github.refhumbold.algolib.tuples.Pair;
 
 // Tests: Algorithm for lowest common ancestors in a rooted tree.
 public class LowestCommonAncestorTest
@@ -109,4 +114,112 @@ public class LowestCommonAncestorTest
         // then
         Assertions.assertThat(result).isEqualTo(testObject.root);
     }
+
+    @Test
+    public void findLca_WhenManyVirtualThreads_ThenSameResults()
+            throws InterruptedException, ExecutionException
+    {
+        // given
+        List<Vertex<Integer>> vertices = new ArrayList<>(testObject.graph.getVertices());
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+
+        for(int i = 0; i < 1000; ++i)
+        {
+            Vertex<Integer> vertex1 = vertices.get(i % vertices.size());
+            Vertex<Integer> vertex2 = vertices.get(i * 7 % vertices.size());
+            Vertex<Integer> expected = testObject.findLca(vertex1, vertex2);
+
+            tasks.add(() -> expected.equals(testObject.findLca(vertex1, vertex2)));
+        }
+
+        // when
+        List<Future<Boolean>> results;
+
+        try(ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor())
+        {
+            results = executor.invokeAll(tasks);
+        }
+
+        // then
+        for(Future<Boolean> result : results)
+            Assertions.assertThat(result.get()).isTrue();
+    }
+
+    @Test
+    public void findLca_WhenNewInstanceSharedByPlatformThreads_ThenSameResults()
+            throws InterruptedException, ExecutionException
+    {
+        // given
+        LowestCommonAncestor<Integer, Void, Void> shared =
+                new LowestCommonAncestor<>(testObject.graph, testObject.root);
+        List<Callable<Vertex<Integer>>> tasks = new ArrayList<>();
+
+        for(int i = 0; i < 100; ++i)
+            tasks.add(() -> shared.findLca(testObject.graph.getVertex(3),
+                    testObject.graph.getVertex(9)));
+
+        // when
+        List<Future<Vertex<Integer>>> results;
+
+        try(ExecutorService executor = Executors.newFixedThreadPool(8))
+        {
+            results = executor.invokeAll(tasks);
+        }
+
+        // then
+        for(Future<Vertex<Integer>> result : results)
+            Assertions.assertThat(result.get()).isEqualTo(testObject.root);
+    }
+
+    @Test
+    public void findLcaOffline_ThenSameAsFindLca()
+    {
+        // given
+        List<Pair<Vertex<Integer>, Vertex<Integer>>> queries = new ArrayList<>();
+
+        for(Vertex<Integer> vertex1 : testObject.graph.getVertices())
+            for(Vertex<Integer> vertex2 : testObject.graph.getVertices())
+                queries.add(Pair.of(vertex1, vertex2));
+
+        // when
+        List<Vertex<Integer>> result =
+                LowestCommonAncestor.findLcaOffline(testObject.graph, testObject.root, queries);
+
+        // then
+        Assertions.assertThat(result)
+                  .containsExactlyElementsOf(queries.stream()
+                                                    .map(query -> testObject.findLca(query.first,
+                                                            query.second))
+                                                    .toList());
+    }
+
+    @Test
+    public void findLcaOffline_WhenStreamOfQueries_ThenLowestCommonAncestorsInOrder()
+    {
+        // given
+        Stream<Pair<Vertex<Integer>, Vertex<Integer>>> queries =
+                Stream.of(Pair.of(testObject.graph.getVertex(5), testObject.graph.getVertex(7)),
+                        Pair.of(testObject.graph.getVertex(3), testObject.graph.getVertex(9)),
+                        Pair.of(testObject.graph.getVertex(8), testObject.graph.getVertex(2)));
+
+        // when
+        List<Vertex<Integer>> result = LowestCommonAncestor.findLcaOffline(testObject.graph,
+                testObject.root, queries::iterator);
+
+        // then
+        Assertions.assertThat(result)
+                  .containsExactly(testObject.graph.getVertex(1), testObject.root,
+                          testObject.graph.getVertex(2));
+    }
+
+    @Test
+    public void findLcaOffline_WhenVertexNotInTree_ThenIllegalArgumentException()
+    {
+        // then
+        Assertions.assertThatThrownBy(
+                          () -> LowestCommonAncestor.findLcaOffline(testObject.graph,
+                                  testObject.root,
+                                  List.of(Pair.of(testObject.root, new Vertex<>(10)))))
+                  .isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -6,6 +6,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import com.github.refhumbold.algolib.graphs.CompactUndirectedGraph;
 import com.github.refhumbold.algolib.graphs.MultipartiteGraph;
 import com.github.refhumbold.algolib.graphs.Vertex;
 
@@ -69,4 +70,80 @@ public class MatchingTest
         // then
         Assertions.assertThat(result).isEmpty();
     }
+
+    @Test
+    public void match_WhenManyVertices_ThenPerfectMatching()
+    {
+        // given
+        int groupSize = 100000;
+        MultipartiteGraph<Integer, Void, Void> graph = new MultipartiteGraph<>(2,
+                List.of(IntStream.range(0, groupSize).boxed().toList(),
+                        IntStream.range(groupSize, 2 * groupSize).boxed().toList()));
+
+        for(int i = 0; i < groupSize; ++i)
+        {
+            graph.addEdgeBetween(graph.getVertex(i), graph.getVertex(groupSize + i));
+
+            if(i + 1 < groupSize)
+                graph.addEdgeBetween(graph.getVertex(i + 1), graph.getVertex(groupSize + i));
+        }
+
+        // when
+        Map<Vertex<Integer>, Vertex<Integer>> result = Matching.match(graph);
+
+        // then
+        Assertions.assertThat(result).hasSize(2 * groupSize);
+        Assertions.assertThat(result.entrySet()
+                                    .stream()
+                                    .allMatch(entry -> result.get(entry.getValue())
+                                                             .equals(entry.getKey()))).isTrue();
+    }
+
+    @Test
+    public void matchIndices_WhenMatchingExists_ThenMatesOfVertices()
+    {
+        // given
+        MultipartiteGraph<Integer, Void, Void> graph =
+                new MultipartiteGraph<>(2, List.of(List.of(0, 2, 4, 6), List.of(1, 3, 5, 7)));
+        graph.addEdgeBetween(graph.getVertex(0), graph.getVertex(3));
+        graph.addEdgeBetween(graph.getVertex(0), graph.getVertex(5));
+        graph.addEdgeBetween(graph.getVertex(1), graph.getVertex(2));
+        graph.addEdgeBetween(graph.getVertex(3), graph.getVertex(4));
+        graph.addEdgeBetween(graph.getVertex(3), graph.getVertex(6));
+        graph.addEdgeBetween(graph.getVertex(6), graph.getVertex(7));
+
+        CompactUndirectedGraph<Integer, Void, Void> compactGraph =
+                new CompactUndirectedGraph<>(graph);
+        int[] groupVertices = IntStream.of(1, 3, 5, 7)
+                                       .map(i -> compactGraph.indexOf(graph.getVertex(i)))
+                                       .toArray();
+        int[] matches = new int[]{ 5, 2, 1, 4, 3, 0, 7, 6 };
+        int[] expected = new int[matches.length];
+
+        for(int i = 0; i < matches.length; ++i)
+            expected[compactGraph.indexOf(graph.getVertex(i))] =
+                    compactGraph.indexOf(graph.getVertex(matches[i]));
+
+        // when
+        int[] result = Matching.matchIndices(compactGraph, groupVertices);
+
+        // then
+        Assertions.assertThat(result).containsExactly(expected);
+    }
+
+    @Test
+    public void matchIndices_WhenNoEdges_ThenAllUnmatched()
+    {
+        // given
+        MultipartiteGraph<Integer, Void, Void> graph =
+                new MultipartiteGraph<>(2, List.of(List.of(0, 1), List.of(2, 3)));
+        CompactUndirectedGraph<Integer, Void, Void> compactGraph =
+                new CompactUndirectedGraph<>(graph);
+
+        // when
+        int[] result = Matching.matchIndices(compactGraph, 0, 1);
+
+        // then
+        Assertions.assertThat(result).containsOnly(-1);
+    }
 }
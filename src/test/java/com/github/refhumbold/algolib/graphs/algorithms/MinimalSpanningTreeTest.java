@@ -7,6 +7,7 @@ import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import com.github.refhumbold.algolib.graphs.CompactUndirectedGraph;
 import com.github.refhumbold.algolib.graphs.UndirectedGraph;
 import com.github.refhumbold.algolib.graphs.UndirectedSimpleGraph;
 import com.github.refhumbold.algolib.graphs.properties.Weighted;
@@ -59,6 +60,19 @@ public class MinimalSpanningTreeTest
         Assertions.assertThat(mstSize).isCloseTo(12.0, OFFSET);
     }
 
+    @Test
+    public void kruskal_WhenCompactGraph_ThenMinimalSpanningTree()
+    {
+        // when
+        UndirectedGraph<Integer, Void, Weight> result =
+                MinimalSpanningTree.kruskal(new CompactUndirectedGraph<>(graph));
+
+        // then
+        Assertions.assertThat(result.getEdges())
+                  .containsOnly(graph.getEdge(0, 1), graph.getEdge(0, 2), graph.getEdge(2, 4),
+                          graph.getEdge(3, 4));
+    }
+
     @Test
     public void prim_ThenMinimalSpanningTree()
     {
@@ -81,6 +95,19 @@ public class MinimalSpanningTreeTest
         Assertions.assertThat(mstSize).isCloseTo(12.0, Offset.offset(0.000001));
     }
 
+    @Test
+    public void prim_WhenCompactGraph_ThenMinimalSpanningTree()
+    {
+        // when
+        UndirectedGraph<Integer, Void, Weight> result =
+                MinimalSpanningTree.prim(new CompactUndirectedGraph<>(graph), graph.getVertex(0));
+
+        // then
+        Assertions.assertThat(result.getEdges())
+                  .containsOnly(graph.getEdge(0, 1), graph.getEdge(0, 2), graph.getEdge(2, 4),
+                          graph.getEdge(3, 4));
+    }
+
     @Test
     public void prim_WhenDifferentSources_ThenSameMinimalSpanningTree()
     {
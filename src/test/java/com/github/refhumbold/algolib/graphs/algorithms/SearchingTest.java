@@ -1,19 +1,22 @@
 package com.github.refhumbold.algolib.graphs.algorithms;
 
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.List;
+import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import com.github.refhumbold.algolib.graphs.CompactDirectedGraph;
+import com.github.refhumbold.algolib.graphs.CompactUndirectedGraph;
 import com.github.refhumbold.algolib.graphs.DirectedSimpleGraph;
+import com.github.refhumbold.algolib.graphs.IntGraph;
 import com.github.refhumbold.algolib.graphs.UndirectedSimpleGraph;
 import com.github.refhumbold.algolib.graphs.Vertex;
 import com.github.refhumbold.algolib.graphs.algorithms.strategy.DfsStrategy;
 import com.github.refhumbold.algolib.graphs.algorithms.strategy.EmptyStrategy;
+import com.github.refhumbold.algolib.graphs.algorithms.strategy.IntDfsStrategy;
+import com.github.refhumbold.algolib.graphs.algorithms.strategy.SearchAction;
 
 // Tests: Algorithms for graph searching.
 public class SearchingTest
@@ -130,6 +133,189 @@ public class SearchingTest
         Assertions.assertThat(strategy.exits).hasSameElementsAs(directedGraph.getVertices());
     }
 
+    @Test
+    public void bfs_WhenCompactUndirectedGraphAndSingleRoot_ThenVisitedVertices()
+    {
+        // given
+        CompactUndirectedGraph<Integer, Void, Void> graph =
+                new CompactUndirectedGraph<>(undirectedGraph);
+
+        // when
+        BitSet result = Searching.bfs(graph, new EmptyStrategy<>(),
+                graph.indexOf(graph.getVertex(0)));
+
+        // then
+        Assertions.assertThat(result.stream().mapToObj(graph::vertexAt).toList())
+                  .containsExactlyInAnyOrder(graph.getVertex(0), graph.getVertex(1),
+                          graph.getVertex(3), graph.getVertex(4), graph.getVertex(5),
+                          graph.getVertex(7), graph.getVertex(8));
+    }
+
+    @Test
+    public void bfs_WhenCompactDirectedGraphAndMultipleRoots_ThenAllVertices()
+    {
+        // given
+        CompactDirectedGraph<Integer, Void, Void> graph =
+                new CompactDirectedGraph<>(directedGraph);
+        IntTestingStrategy strategy = new IntTestingStrategy();
+
+        // when
+        BitSet result = Searching.bfs(graph, strategy, graph.indexOf(graph.getVertex(8)),
+                graph.indexOf(graph.getVertex(6)));
+
+        // then
+        Assertions.assertThat(result.cardinality()).isEqualTo(graph.getVerticesCount());
+        Assertions.assertThat(strategy.entries).hasSize(graph.getVerticesCount());
+        Assertions.assertThat(strategy.exits).hasSize(graph.getVerticesCount());
+    }
+
+    @Test
+    public void bfs_WhenStrategyStops_ThenSearchingEnds()
+    {
+        // given
+        PruningStrategy<Integer> strategy =
+                new PruningStrategy<>(Map.of(directedGraph.getVertex(1), SearchAction.STOP));
+
+        // when
+        Collection<Vertex<Integer>> result =
+                Searching.bfs(directedGraph, strategy, List.of(directedGraph.getVertex(0)));
+
+        // then
+        Assertions.assertThat(result)
+                  .containsExactlyInAnyOrder(directedGraph.getVertex(0),
+                          directedGraph.getVertex(1));
+        Assertions.assertThat(strategy.entries)
+                  .containsExactlyInAnyOrder(directedGraph.getVertex(0),
+                          directedGraph.getVertex(1));
+        Assertions.assertThat(strategy.exits).containsExactly(directedGraph.getVertex(0));
+    }
+
+    @Test
+    public void bfs_WhenCompactGraphAndStrategySkipsSubtree_ThenNeighboursNotSearched()
+    {
+        // given
+        CompactDirectedGraph<Integer, Void, Void> graph =
+                new CompactDirectedGraph<>(directedGraph);
+        IntPruningStrategy strategy = new IntPruningStrategy(
+                Map.of(graph.indexOf(graph.getVertex(3)), SearchAction.SKIP_SUBTREE));
+
+        // when
+        BitSet result = Searching.bfs(graph, strategy, graph.indexOf(graph.getVertex(1)));
+
+        // then
+        Assertions.assertThat(result.stream().mapToObj(graph::vertexAt).toList())
+                  .containsExactlyInAnyOrder(graph.getVertex(1), graph.getVertex(3),
+                          graph.getVertex(7));
+        Assertions.assertThat(strategy.exits).hasSize(3);
+    }
+
+    // endregion
+    // region parallelBfs
+
+    @Test
+    public void parallelBfs_WhenCompactUndirectedGraphAndSingleRoot_ThenLevelsAndParents()
+    {
+        // given
+        CompactUndirectedGraph<Integer, Void, Void> graph =
+                new CompactUndirectedGraph<>(undirectedGraph);
+
+        // when
+        BfsTree result = Searching.parallelBfs(graph, graph.indexOf(graph.getVertex(0)));
+
+        // then
+        Assertions.assertThat(IntStream.range(0, 10)
+                                       .map(i -> result.levels()[graph.indexOf(
+                                               graph.getVertex(i))])
+                                       .toArray())
+                  .containsExactly(0, 1, -1, 2, 1, 2, -1, 2, 3, -1);
+        Assertions.assertThat(result.isReached(graph.indexOf(graph.getVertex(6)))).isFalse();
+        assertParents(graph, result);
+    }
+
+    @Test
+    public void parallelBfs_WhenCompactDirectedGraphAndMultipleRoots_ThenAllVerticesReached()
+    {
+        // given
+        CompactDirectedGraph<Integer, Void, Void> graph =
+                new CompactDirectedGraph<>(directedGraph);
+
+        // when
+        BfsTree result = Searching.parallelBfs(graph, graph.indexOf(graph.getVertex(8)),
+                graph.indexOf(graph.getVertex(6)));
+
+        // then
+        Assertions.assertThat(IntStream.range(0, 10)
+                                       .map(i -> result.levels()[graph.indexOf(
+                                               graph.getVertex(i))])
+                                       .toArray())
+                  .containsExactly(3, 4, 1, 5, 2, 1, 0, 5, 0, 1);
+        assertParents(graph, result);
+    }
+
+    @Test
+    public void parallelBfs_WhenDenseGraph_ThenSameLevelsAsSequential()
+    {
+        // given
+        DirectedSimpleGraph<Integer, Void, Void> denseGraph = new DirectedSimpleGraph<>(
+                IntStream.range(0, 300).boxed().collect(Collectors.toList()));
+
+        for(int i = 0; i < 300; ++i)
+            for(int j = 0; j < 300; ++j)
+                if(i != j && (i * 7 + j * 13) % 29 < 2)
+                    denseGraph.addEdgeBetween(denseGraph.getVertex(i), denseGraph.getVertex(j));
+
+        CompactDirectedGraph<Integer, Void, Void> graph = new CompactDirectedGraph<>(denseGraph);
+
+        // when
+        BfsTree result = Searching.parallelBfs(graph, 0);
+
+        // then
+        Assertions.assertThat(result.levels()).containsExactly(sequentialLevels(graph, 0));
+        assertParents(graph, result);
+    }
+
+    private static int[] sequentialLevels(IntGraph graph, int root)
+    {
+        int[] levels = new int[graph.getVerticesCount()];
+        Deque<Integer> queue = new ArrayDeque<>();
+
+        Arrays.fill(levels, -1);
+        levels[root] = 0;
+        queue.add(root);
+
+        while(!queue.isEmpty())
+        {
+            int vertex = queue.remove();
+
+            graph.forEachNeighbour(vertex, neighbour -> {
+                if(levels[neighbour] < 0)
+                {
+                    levels[neighbour] = levels[vertex] + 1;
+                    queue.add(neighbour);
+                }
+            });
+        }
+
+        return levels;
+    }
+
+    private static void assertParents(IntGraph graph, BfsTree tree)
+    {
+        for(int vertex = 0; vertex < graph.getVerticesCount(); ++vertex)
+        {
+            int parent = tree.parents()[vertex];
+
+            if(tree.levels()[vertex] <= 0)
+                Assertions.assertThat(parent).isEqualTo(-1);
+            else
+            {
+                Assertions.assertThat(tree.levels()[parent]).isEqualTo(tree.levels()[vertex] - 1);
+                Assertions.assertThat(graph.findIncomingNeighbour(vertex, v -> v == parent))
+                          .isEqualTo(parent);
+            }
+        }
+    }
+
     // endregion
     // region dfsIterative
 
@@ -206,6 +392,122 @@ public class SearchingTest
         Assertions.assertThat(strategy.exits).hasSameElementsAs(directedGraph.getVertices());
     }
 
+    @Test
+    public void dfsIterative_WhenDirectedGraph_ThenSameEventsAsRecursive()
+    {
+        // given
+        RecordingStrategy<Integer> iterativeStrategy = new RecordingStrategy<>();
+        RecordingStrategy<Integer> recursiveStrategy = new RecordingStrategy<>();
+
+        // when
+        Searching.dfsIterative(directedGraph, iterativeStrategy, directedGraph.getVertices());
+        Searching.dfsRecursive(directedGraph, recursiveStrategy, directedGraph.getVertices());
+
+        // then
+        Assertions.assertThat(iterativeStrategy.events)
+                  .containsExactlyElementsOf(recursiveStrategy.events);
+    }
+
+    @Test
+    public void dfsIterative_WhenLongPath_ThenAllVerticesExitedInReverseOrder()
+    {
+        // given
+        int verticesCount = 200000;
+        DirectedSimpleGraph<Integer, Void, Void> graph = new DirectedSimpleGraph<>(
+                IntStream.range(0, verticesCount).boxed().collect(Collectors.toList()));
+
+        for(int i = 1; i < verticesCount; ++i)
+            graph.addEdgeBetween(graph.getVertex(i - 1), graph.getVertex(i));
+
+        RecordingStrategy<Integer> strategy = new RecordingStrategy<>();
+
+        // when
+        Collection<Vertex<Integer>> result =
+                Searching.dfsIterative(graph, strategy, List.of(graph.getVertex(0)));
+
+        // then
+        Assertions.assertThat(result).hasSize(verticesCount);
+        Assertions.assertThat(strategy.events.get(strategy.events.size() - 1))
+                  .isEqualTo("exit %s".formatted(graph.getVertex(0)));
+        Assertions.assertThat(strategy.events.get(2 * verticesCount))
+                  .isEqualTo("exit %s".formatted(graph.getVertex(verticesCount - 1)));
+    }
+
+    @Test
+    public void dfsIterative_WhenCompactUndirectedGraphAndSingleRoot_ThenVisitedVertices()
+    {
+        // given
+        CompactUndirectedGraph<Integer, Void, Void> graph =
+                new CompactUndirectedGraph<>(undirectedGraph);
+
+        // when
+        BitSet result = Searching.dfsIterative(graph, new EmptyStrategy<>(),
+                graph.indexOf(graph.getVertex(0)));
+
+        // then
+        Assertions.assertThat(result.stream().mapToObj(graph::vertexAt).toList())
+                  .containsExactlyInAnyOrder(graph.getVertex(0), graph.getVertex(1),
+                          graph.getVertex(3), graph.getVertex(4), graph.getVertex(5),
+                          graph.getVertex(7), graph.getVertex(8));
+    }
+
+    @Test
+    public void dfsIterative_WhenCompactDirectedGraphAndMultipleRoots_ThenAllVertices()
+    {
+        // given
+        CompactDirectedGraph<Integer, Void, Void> graph =
+                new CompactDirectedGraph<>(directedGraph);
+        IntTestingStrategy strategy = new IntTestingStrategy();
+
+        // when
+        BitSet result = Searching.dfsIterative(graph, strategy, graph.indexOf(graph.getVertex(8)),
+                graph.indexOf(graph.getVertex(6)));
+
+        // then
+        Assertions.assertThat(result.cardinality()).isEqualTo(graph.getVerticesCount());
+        Assertions.assertThat(strategy.entries).hasSize(graph.getVerticesCount());
+        Assertions.assertThat(strategy.exits).hasSize(graph.getVerticesCount());
+    }
+
+    @Test
+    public void dfsIterative_WhenStrategySkipsSubtree_ThenNeighboursNotSearched()
+    {
+        // given
+        PruningStrategy<Integer> strategy = new PruningStrategy<>(
+                Map.of(directedGraph.getVertex(3), SearchAction.SKIP_SUBTREE));
+
+        // when
+        Collection<Vertex<Integer>> result = Searching.dfsIterative(directedGraph, strategy,
+                List.of(directedGraph.getVertex(1)));
+
+        // then
+        Assertions.assertThat(result)
+                  .containsExactlyInAnyOrder(directedGraph.getVertex(1), directedGraph.getVertex(3),
+                          directedGraph.getVertex(7));
+        Assertions.assertThat(strategy.exits).hasSameElementsAs(result);
+    }
+
+    @Test
+    public void dfsIterative_WhenCompactGraphAndStrategyStops_ThenSearchingEnds()
+    {
+        // given
+        CompactUndirectedGraph<Integer, Void, Void> graph =
+                new CompactUndirectedGraph<>(undirectedGraph);
+        IntPruningStrategy strategy = new IntPruningStrategy(
+                Map.of(graph.indexOf(graph.getVertex(4)), SearchAction.STOP));
+
+        // when
+        BitSet result = Searching.dfsIterative(graph, strategy,
+                graph.indexOf(graph.getVertex(0)), graph.indexOf(graph.getVertex(2)));
+
+        // then
+        Assertions.assertThat(result.get(graph.indexOf(graph.getVertex(4)))).isTrue();
+        Assertions.assertThat(result.get(graph.indexOf(graph.getVertex(2)))).isFalse();
+        Assertions.assertThat(strategy.exits)
+                  .doesNotContain(graph.indexOf(graph.getVertex(0)),
+                          graph.indexOf(graph.getVertex(4)));
+    }
+
     // endregion
     // region dfsRecursive
 
@@ -285,6 +587,80 @@ public class SearchingTest
         Assertions.assertThat(strategy.exits).hasSameElementsAs(directedGraph.getVertices());
     }
 
+    @Test
+    public void dfsRecursive_WhenCompactUndirectedGraphAndSingleRoot_ThenVisitedVertices()
+    {
+        // given
+        CompactUndirectedGraph<Integer, Void, Void> graph =
+                new CompactUndirectedGraph<>(undirectedGraph);
+
+        // when
+        BitSet result = Searching.dfsRecursive(graph, new EmptyStrategy<>(),
+                graph.indexOf(graph.getVertex(0)));
+
+        // then
+        Assertions.assertThat(result.stream().mapToObj(graph::vertexAt).toList())
+                  .containsExactlyInAnyOrder(graph.getVertex(0), graph.getVertex(1),
+                          graph.getVertex(3), graph.getVertex(4), graph.getVertex(5),
+                          graph.getVertex(7), graph.getVertex(8));
+    }
+
+    @Test
+    public void dfsRecursive_WhenCompactDirectedGraphAndMultipleRoots_ThenAllVertices()
+    {
+        // given
+        CompactDirectedGraph<Integer, Void, Void> graph =
+                new CompactDirectedGraph<>(directedGraph);
+        IntTestingStrategy strategy = new IntTestingStrategy();
+
+        // when
+        BitSet result = Searching.dfsRecursive(graph, strategy, graph.indexOf(graph.getVertex(8)),
+                graph.indexOf(graph.getVertex(6)));
+
+        // then
+        Assertions.assertThat(result.cardinality()).isEqualTo(graph.getVerticesCount());
+        Assertions.assertThat(strategy.entries).hasSize(graph.getVerticesCount());
+        Assertions.assertThat(strategy.exits).hasSize(graph.getVerticesCount());
+    }
+
+    @Test
+    public void dfsRecursive_WhenStrategyStops_ThenSearchingEnds()
+    {
+        // given
+        PruningStrategy<Integer> strategy =
+                new PruningStrategy<>(Map.of(undirectedGraph.getVertex(4), SearchAction.STOP));
+
+        // when
+        Collection<Vertex<Integer>> result = Searching.dfsRecursive(undirectedGraph, strategy,
+                List.of(undirectedGraph.getVertex(0), undirectedGraph.getVertex(2)));
+
+        // then
+        Assertions.assertThat(result)
+                  .contains(undirectedGraph.getVertex(4))
+                  .doesNotContain(undirectedGraph.getVertex(2));
+        Assertions.assertThat(strategy.exits)
+                  .doesNotContain(undirectedGraph.getVertex(0), undirectedGraph.getVertex(4));
+    }
+
+    @Test
+    public void dfsRecursive_WhenCompactGraphAndStrategySkipsSubtree_ThenNeighboursNotSearched()
+    {
+        // given
+        CompactDirectedGraph<Integer, Void, Void> graph =
+                new CompactDirectedGraph<>(directedGraph);
+        IntPruningStrategy strategy = new IntPruningStrategy(
+                Map.of(graph.indexOf(graph.getVertex(3)), SearchAction.SKIP_SUBTREE));
+
+        // when
+        BitSet result = Searching.dfsRecursive(graph, strategy, graph.indexOf(graph.getVertex(1)));
+
+        // then
+        Assertions.assertThat(result.stream().mapToObj(graph::vertexAt).toList())
+                  .containsExactlyInAnyOrder(graph.getVertex(1), graph.getVertex(3),
+                          graph.getVertex(7));
+        Assertions.assertThat(strategy.exits).hasSize(3);
+    }
+
     // endregion
 
     private static class TestingStrategy<VertexId>
@@ -320,4 +696,108 @@ public class SearchingTest
         {
         }
     }
+
+    private static class RecordingStrategy<VertexId>
+            implements DfsStrategy<VertexId>
+    {
+        List<String> events = new ArrayList<>();
+
+        @Override
+        public void forRoot(Vertex<VertexId> root)
+        {
+            events.add("root %s".formatted(root));
+        }
+
+        @Override
+        public void onEntry(Vertex<VertexId> vertex)
+        {
+            events.add("entry %s".formatted(vertex));
+        }
+
+        @Override
+        public void onNextVertex(Vertex<VertexId> vertex, Vertex<VertexId> neighbour)
+        {
+            events.add("next %s %s".formatted(vertex, neighbour));
+        }
+
+        @Override
+        public void onExit(Vertex<VertexId> vertex)
+        {
+            events.add("exit %s".formatted(vertex));
+        }
+
+        @Override
+        public void onEdgeToVisited(Vertex<VertexId> vertex, Vertex<VertexId> neighbour)
+        {
+            events.add("visited %s %s".formatted(vertex, neighbour));
+        }
+    }
+
+    private static class IntTestingStrategy
+            implements IntDfsStrategy
+    {
+        HashSet<Integer> entries = new HashSet<>();
+        HashSet<Integer> exits = new HashSet<>();
+
+        @Override
+        public void forRoot(int root)
+        {
+        }
+
+        @Override
+        public void onEntry(int vertex)
+        {
+            entries.add(vertex);
+        }
+
+        @Override
+        public void onNextVertex(int vertex, int neighbour)
+        {
+        }
+
+        @Override
+        public void onExit(int vertex)
+        {
+            exits.add(vertex);
+        }
+
+        @Override
+        public void onEdgeToVisited(int vertex, int neighbour)
+        {
+        }
+    }
+
+    private static class PruningStrategy<VertexId>
+            extends TestingStrategy<VertexId>
+    {
+        final Map<Vertex<VertexId>, SearchAction> actions;
+
+        PruningStrategy(Map<Vertex<VertexId>, SearchAction> actions)
+        {
+            this.actions = actions;
+        }
+
+        @Override
+        public SearchAction afterEntry(Vertex<VertexId> vertex)
+        {
+            return actions.getOrDefault(vertex, SearchAction.CONTINUE);
+        }
+    }
+
+    private static class IntPruningStrategy
+            extends IntTestingStrategy
+    {
+        final Map<Integer, SearchAction> actions;
+
+        IntPruningStrategy(Map<Integer, SearchAction> actions)
+        {
+            this.actions = actions;
+        }
+
+        @Override
+        public SearchAction afterEntry(int vertex)
+        {
+            return actions.getOrDefault(vertex, SearchAction.CONTINUE);
+        }
+    }
 }
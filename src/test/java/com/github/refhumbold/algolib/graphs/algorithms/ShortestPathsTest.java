@@ -3,12 +3,18 @@ package com.github.refhumbold.algolib.graphs.algorithms;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import com.github.refhumbold.algolib.graphs.CompactDirectedGraph;
+import com.github.refhumbold.algolib.graphs.CompactUndirectedGraph;
 import com.github.refhumbold.algolib.graphs.DirectedSimpleGraph;
+import com.github.refhumbold.algolib.graphs.Edge;
 import com.github.refhumbold.algolib.graphs.Graph;
 import com.github.refhumbold.algolib.graphs.UndirectedSimpleGraph;
 import com.github.refhumbold.algolib.graphs.Vertex;
@@ -152,6 +158,54 @@ public class ShortestPathsTest
                   .isInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    public void bellmanFord_WhenNegativeCycle_ThenCycleInException()
+    {
+        // given
+        directedGraph.addEdgeBetween(directedGraph.getVertex(8), directedGraph.getVertex(3),
+                new Weight(-20.0));
+
+        // when
+        Throwable throwable = Assertions.catchThrowable(
+                () -> ShortestPaths.bellmanFord(directedGraph, directedGraph.getVertex(1)));
+
+        // then
+        Assertions.assertThat(throwable).isInstanceOf(NegativeCycleException.class);
+
+        List<Edge<Integer>> cycle = ((NegativeCycleException)throwable).getCycle();
+        double length = 0.0;
+
+        Assertions.assertThat(cycle).isNotEmpty();
+        Assertions.assertThat(cycle.getLast().destination()).isEqualTo(cycle.getFirst().source());
+
+        for(int i = 0; i < cycle.size(); ++i)
+        {
+            if(i > 0)
+                Assertions.assertThat(cycle.get(i).source())
+                          .isEqualTo(cycle.get(i - 1).destination());
+
+            length += directedGraph.getProperties().get(cycle.get(i)).getWeight();
+        }
+
+        Assertions.assertThat(length).isNegative();
+    }
+
+    @Test
+    public void bellmanFord_WhenCompactGraph_ThenShortestPathsLengths()
+    {
+        // given
+        List<Double> distances = List.of(20.0, 0.0, INF, 17.0, 7.0, 8.0, 12.0, 12.0, 10.0, 20.0);
+        Map<Vertex<Integer>, Double> expected = fromList(directedGraph, distances);
+
+        // when
+        Map<Vertex<Integer>, Double> result =
+                ShortestPaths.bellmanFord(new CompactDirectedGraph<>(directedGraph),
+                        directedGraph.getVertex(1));
+
+        // then
+        Assertions.assertThat(result).isEqualTo(expected);
+    }
+
     // endregion
     // region dijkstra
 
@@ -198,6 +252,307 @@ public class ShortestPathsTest
                   .isInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    public void dijkstra_WhenCompactUndirectedGraph_ThenShortestPathsLengths()
+    {
+        // given
+        List<Double> distances = List.of(4.0, 0.0, INF, 7.0, 7.0, 8.0, INF, 10.0, 10.0, INF);
+        Map<Vertex<Integer>, Double> expected = fromList(undirectedGraph, distances);
+
+        // when
+        Map<Vertex<Integer>, Double> result =
+                ShortestPaths.dijkstra(new CompactUndirectedGraph<>(undirectedGraph),
+                        undirectedGraph.getVertex(1));
+
+        // then
+        Assertions.assertThat(result).isEqualTo(expected);
+    }
+
+    @Test
+    public void dijkstra_WhenCompactGraphAndWeightColumn_ThenDistancesByIndex()
+    {
+        // given
+        CompactDirectedGraph<Integer, Void, Weight> graph =
+                new CompactDirectedGraph<>(directedGraph);
+        List<Double> distances = List.of(20.0, 0.0, INF, 17.0, 7.0, 8.0, 12.0, 12.0, 10.0, 20.0);
+
+        // when
+        double[] result = ShortestPaths.dijkstra(graph, graph.getWeightColumn(),
+                graph.indexOf(graph.getVertex(1)));
+
+        // then
+        for(int i = 0; i < distances.size(); ++i)
+            Assertions.assertThat(result[graph.indexOf(graph.getVertex(i))])
+                      .isEqualTo(distances.get(i));
+    }
+
+    @Test
+    public void dijkstra_WhenCompactGraphWithNegativeEdge_ThenIllegalStateException()
+    {
+        // given
+        directedGraph.addEdgeBetween(directedGraph.getVertex(8), directedGraph.getVertex(3),
+                new Weight(-5.0));
+
+        CompactDirectedGraph<Integer, Void, Weight> graph =
+                new CompactDirectedGraph<>(directedGraph);
+
+        // then
+        Assertions.assertThatThrownBy(() -> ShortestPaths.dijkstra(graph, graph.getVertex(1)))
+                  .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void dijkstra_WhenTarget_ThenShortestPath()
+    {
+        // when
+        Path<Integer> result = ShortestPaths.dijkstra(directedGraph, directedGraph.getVertex(1),
+                directedGraph.getVertex(9));
+
+        // then
+        Assertions.assertThat(result.length()).isEqualTo(20.0);
+        Assertions.assertThat(result.edges())
+                  .containsExactly(directedGraph.getEdge(1, 4), directedGraph.getEdge(4, 5),
+                          directedGraph.getEdge(5, 8), directedGraph.getEdge(8, 9));
+    }
+
+    @Test
+    public void dijkstra_WhenTargetUnreachable_ThenUnreachablePath()
+    {
+        // when
+        Path<Integer> result = ShortestPaths.dijkstra(directedGraph, directedGraph.getVertex(1),
+                directedGraph.getVertex(2));
+
+        // then
+        Assertions.assertThat(result.isReachable()).isFalse();
+        Assertions.assertThat(result.length()).isEqualTo(INF);
+        Assertions.assertThat(result.edges()).isEmpty();
+    }
+
+    @Test
+    public void dijkstra_WhenTargetIsSource_ThenEmptyPath()
+    {
+        // when
+        Path<Integer> result = ShortestPaths.dijkstra(directedGraph, directedGraph.getVertex(4),
+                directedGraph.getVertex(4));
+
+        // then
+        Assertions.assertThat(result.length()).isEqualTo(0.0);
+        Assertions.assertThat(result.edges()).isEmpty();
+    }
+
+    @Test
+    public void dijkstra_WhenTargetInUndirectedGraph_ThenShortestPath()
+    {
+        // when
+        Path<Integer> result = ShortestPaths.dijkstra(undirectedGraph,
+                undirectedGraph.getVertex(1), undirectedGraph.getVertex(8));
+
+        // then
+        Assertions.assertThat(result.length()).isEqualTo(10.0);
+        Assertions.assertThat(result.edges())
+                  .containsExactly(undirectedGraph.getEdge(1, 4), undirectedGraph.getEdge(4, 5),
+                          undirectedGraph.getEdge(5, 8));
+    }
+
+    @Test
+    public void dijkstra_WhenTargetInLargeGraph_ThenSameLengthAsAllDistances()
+    {
+        // given
+        int side = 30;
+        UndirectedSimpleGraph<Integer, Void, Weight> graph = new UndirectedSimpleGraph<>(
+                IntStream.range(0, side * side).boxed().collect(Collectors.toList()));
+
+        for(int i = 0; i < side * side; ++i)
+        {
+            if(i % side < side - 1)
+                graph.addEdgeBetween(graph.getVertex(i), graph.getVertex(i + 1),
+                        new Weight(1.0 + i * 7 % 5));
+
+            if(i + side < side * side)
+                graph.addEdgeBetween(graph.getVertex(i), graph.getVertex(i + side),
+                        new Weight(1.0 + i * 3 % 4));
+        }
+
+        Map<Vertex<Integer>, Double> expected = ShortestPaths.dijkstra(graph, graph.getVertex(0));
+
+        // when
+        Path<Integer> result = ShortestPaths.dijkstra(graph, graph.getVertex(0),
+                graph.getVertex(side * side - 1));
+
+        // then
+        Assertions.assertThat(result.length())
+                  .isEqualTo(expected.get(graph.getVertex(side * side - 1)));
+        Assertions.assertThat(result.edges()
+                                    .stream()
+                                    .mapToDouble(edge -> graph.getProperties()
+                                                              .get(edge)
+                                                              .getWeight())
+                                    .sum()).isEqualTo(result.length());
+    }
+
+    // endregion
+    // region bidirectionalDijkstra
+
+    @Test
+    public void bidirectionalDijkstra_WhenDirectedGraph_ThenShortestPath()
+    {
+        // when
+        Path<Integer> result = ShortestPaths.bidirectionalDijkstra(directedGraph,
+                directedGraph.getVertex(1), directedGraph.getVertex(9));
+
+        // then
+        Assertions.assertThat(result.length()).isEqualTo(20.0);
+        Assertions.assertThat(result.edges())
+                  .containsExactly(directedGraph.getEdge(1, 4), directedGraph.getEdge(4, 5),
+                          directedGraph.getEdge(5, 8), directedGraph.getEdge(8, 9));
+    }
+
+    @Test
+    public void bidirectionalDijkstra_WhenUndirectedGraph_ThenShortestPath()
+    {
+        // when
+        Path<Integer> result = ShortestPaths.bidirectionalDijkstra(undirectedGraph,
+                undirectedGraph.getVertex(8), undirectedGraph.getVertex(1));
+
+        // then
+        Assertions.assertThat(result.length()).isEqualTo(10.0);
+        Assertions.assertThat(result.edges())
+                  .containsExactly(undirectedGraph.getEdge(5, 8), undirectedGraph.getEdge(4, 5),
+                          undirectedGraph.getEdge(1, 4));
+    }
+
+    @Test
+    public void bidirectionalDijkstra_WhenTargetUnreachable_ThenUnreachablePath()
+    {
+        // when
+        Path<Integer> result = ShortestPaths.bidirectionalDijkstra(directedGraph,
+                directedGraph.getVertex(1), directedGraph.getVertex(2));
+
+        // then
+        Assertions.assertThat(result.isReachable()).isFalse();
+        Assertions.assertThat(result.edges()).isEmpty();
+    }
+
+    @Test
+    public void bidirectionalDijkstra_WhenAllPairs_ThenSameLengthsAsDijkstra()
+    {
+        // then
+        for(Vertex<Integer> source : directedGraph.getVertices())
+        {
+            Map<Vertex<Integer>, Double> expected = ShortestPaths.dijkstra(directedGraph, source);
+
+            for(Vertex<Integer> target : directedGraph.getVertices())
+            {
+                Path<Integer> result =
+                        ShortestPaths.bidirectionalDijkstra(directedGraph, source, target);
+                double pathWeight = result.edges()
+                                          .stream()
+                                          .mapToDouble(edge -> directedGraph.getProperties()
+                                                                            .get(edge)
+                                                                            .getWeight())
+                                          .sum();
+
+                Assertions.assertThat(result.length()).isEqualTo(expected.get(target));
+                Assertions.assertThat(pathWeight)
+                          .isEqualTo(result.isReachable() ? expected.get(target) : 0.0);
+            }
+        }
+    }
+
+    // endregion
+    // region deltaStepping
+
+    @Test
+    public void deltaStepping_WhenDirectedGraph_ThenShortestPathsLengths()
+    {
+        // given
+        List<Double> distances = List.of(20.0, 0.0, INF, 17.0, 7.0, 8.0, 12.0, 12.0, 10.0, 20.0);
+        Map<Vertex<Integer>, Double> expected = fromList(directedGraph, distances);
+
+        for(double delta : new double[]{0.5, 3.0, 100.0})
+        {
+            // when
+            Map<Vertex<Integer>, Double> result =
+                    ShortestPaths.deltaStepping(directedGraph, directedGraph.getVertex(1), delta);
+
+            // then
+            Assertions.assertThat(result).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void deltaStepping_WhenUndirectedGraph_ThenShortestPathsLengths()
+    {
+        // given
+        List<Double> distances = List.of(4.0, 0.0, INF, 7.0, 7.0, 8.0, INF, 10.0, 10.0, INF);
+        Map<Vertex<Integer>, Double> expected = fromList(undirectedGraph, distances);
+
+        // when
+        Map<Vertex<Integer>, Double> result =
+                ShortestPaths.deltaStepping(undirectedGraph, undirectedGraph.getVertex(1), 4.0);
+
+        // then
+        Assertions.assertThat(result).isEqualTo(expected);
+    }
+
+    @Test
+    public void deltaStepping_WhenGridAndPool_ThenSameAsDijkstra()
+    {
+        // given
+        UndirectedSimpleGraph<Integer, Void, Weight> graph = new UndirectedSimpleGraph<>(
+                IntStream.range(0, 400).boxed().collect(Collectors.toList()));
+
+        for(int i = 0; i < 400; ++i)
+        {
+            if(i % 20 < 19)
+                graph.addEdgeBetween(graph.getVertex(i), graph.getVertex(i + 1),
+                        new Weight(1.0 + i * 7 % 13));
+
+            if(i / 20 < 19)
+                graph.addEdgeBetween(graph.getVertex(i), graph.getVertex(i + 20),
+                        new Weight(0.5 + i * 11 % 17));
+        }
+
+        CompactUndirectedGraph<Integer, Void, Weight> compactGraph =
+                new CompactUndirectedGraph<>(graph);
+        Map<Vertex<Integer>, Double> expected =
+                ShortestPaths.dijkstra(graph, graph.getVertex(0));
+        Map<Vertex<Integer>, Double> result;
+
+        // when
+        try(ForkJoinPool pool = new ForkJoinPool(4))
+        {
+            result = ShortestPaths.deltaStepping(compactGraph, graph.getVertex(0), 5.0, pool);
+        }
+
+        // then
+        Assertions.assertThat(result).isEqualTo(expected);
+    }
+
+    @Test
+    public void deltaStepping_WhenNotPositiveDelta_ThenIllegalArgumentException()
+    {
+        // then
+        Assertions.assertThatThrownBy(
+                          () -> ShortestPaths.deltaStepping(directedGraph, directedGraph.getVertex(1),
+                                  0.0))
+                  .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void deltaStepping_WhenNegativeEdge_ThenIllegalStateException()
+    {
+        // given
+        directedGraph.addEdgeBetween(directedGraph.getVertex(8), directedGraph.getVertex(3),
+                new Weight(-5.0));
+
+        // then
+        Assertions.assertThatThrownBy(
+                          () -> ShortestPaths.deltaStepping(directedGraph, directedGraph.getVertex(1),
+                                  3.0))
+                  .isInstanceOf(IllegalStateException.class);
+    }
+
     // endregion
     // region floydWarshall
 
@@ -279,6 +634,125 @@ public class ShortestPathsTest
         Assertions.assertThat(result).isEqualTo(expected);
     }
 
+    // endregion
+    // region floydWarshallMatrix
+
+    @Test
+    public void floydWarshallMatrix_WhenDirectedGraph_ThenDistancesAsInMap()
+    {
+        // when
+        DistanceMatrix<Integer> result = ShortestPaths.floydWarshallMatrix(directedGraph);
+
+        // then
+        Assertions.assertThat(result.distance(directedGraph.getVertex(2),
+                directedGraph.getVertex(7))).isEqualTo(21.0);
+        Assertions.assertThat(result.distance(directedGraph.getVertex(5),
+                directedGraph.getVertex(0))).isEqualTo(INF);
+        Assertions.assertThat(result.toMap())
+                  .isEqualTo(ShortestPaths.floydWarshall(directedGraph));
+    }
+
+    @Test
+    public void floydWarshallMatrix_WhenManyBlocks_ThenSameDistancesAsBellmanFord()
+    {
+        // given
+        DirectedSimpleGraph<Integer, Void, Weight> graph = new DirectedSimpleGraph<>(
+                IntStream.range(0, 150).boxed().collect(Collectors.toList()));
+
+        for(int i = 0; i < 150; ++i)
+        {
+            graph.addEdgeBetween(graph.getVertex(i), graph.getVertex((i + 1) % 150),
+                    new Weight(1.0 + i % 7));
+            if(i * 37 % 150 != i)
+                graph.addEdgeBetween(graph.getVertex(i), graph.getVertex(i * 37 % 150),
+                        new Weight(1.0 + i % 11));
+        }
+
+        // when
+        DistanceMatrix<Integer> result = ShortestPaths.floydWarshallMatrix(graph);
+
+        // then
+        for(Vertex<Integer> source : List.of(graph.getVertex(0), graph.getVertex(70),
+                graph.getVertex(149)))
+        {
+            Map<Vertex<Integer>, Double> expected = ShortestPaths.bellmanFord(graph, source);
+
+            for(Vertex<Integer> destination : graph.getVertices())
+                Assertions.assertThat(result.distance(source, destination))
+                          .isEqualTo(expected.get(destination));
+        }
+    }
+
+    @Test
+    public void distance_WhenVertexNotInMatrix_ThenIllegalArgumentException()
+    {
+        // given
+        DistanceMatrix<Integer> testObject = ShortestPaths.floydWarshallMatrix(directedGraph);
+
+        // then
+        Assertions.assertThatThrownBy(
+                          () -> testObject.distance(directedGraph.getVertex(0), new Vertex<>(20)))
+                  .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void floydWarshallMatrix_WhenMatrixExceedsArray_ThenIllegalArgumentException()
+    {
+        // given
+        DirectedSimpleGraph<Integer, Void, Weight> graph = new DirectedSimpleGraph<>(
+                IntStream.range(0, 46341).boxed().collect(Collectors.toList()));
+
+        // then
+        Assertions.assertThatThrownBy(() -> ShortestPaths.floydWarshallMatrix(graph))
+                  .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // endregion
+    // region johnson
+
+    @Test
+    public void johnson_WhenDirectedGraph_ThenSameDistancesAsFloydWarshall()
+    {
+        // when
+        DistanceMatrix<Integer> result = ShortestPaths.johnson(directedGraph);
+
+        // then
+        Assertions.assertThat(result.toMap())
+                  .isEqualTo(ShortestPaths.floydWarshall(directedGraph));
+    }
+
+    @Test
+    public void johnson_WhenNegativeEdgeAndExecutor_ThenSameDistancesAsFloydWarshall()
+    {
+        // given
+        directedGraph.addEdgeBetween(directedGraph.getVertex(8), directedGraph.getVertex(3),
+                new Weight(-5.0));
+
+        DistanceMatrix<Integer> result;
+
+        // when
+        try(ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor())
+        {
+            result = ShortestPaths.johnson(directedGraph, executor);
+        }
+
+        // then
+        Assertions.assertThat(result.toMap())
+                  .isEqualTo(ShortestPaths.floydWarshall(directedGraph));
+    }
+
+    @Test
+    public void johnson_WhenNegativeCycle_ThenIllegalStateException()
+    {
+        // given
+        directedGraph.addEdgeBetween(directedGraph.getVertex(8), directedGraph.getVertex(3),
+                new Weight(-20.0));
+
+        // then
+        Assertions.assertThatThrownBy(() -> ShortestPaths.johnson(directedGraph))
+                  .isInstanceOf(IllegalStateException.class);
+    }
+
     // endregion
 
     private Map<Vertex<Integer>, Double> fromList(Graph<Integer, Void, Weight> graph,
@@ -3,11 +3,14 @@ package com.github.refhumbold.algolib.graphs.algorithms;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import com.github.refhumbold.algolib.graphs.CompactDirectedGraph;
 import com.github.refhumbold.algolib.graphs.DirectedSimpleGraph;
+import com.github.refhumbold.algolib.graphs.Edge;
 import com.github.refhumbold.algolib.graphs.Vertex;
 
 // Tests: Algorithm for strongly connected components.
@@ -85,4 +88,142 @@ public class StronglyConnectedComponentsTest
                   .containsExactlyInAnyOrder(Set.of(graph.getVertex(0)), Set.of(graph.getVertex(1)),
                           Set.of(graph.getVertex(2)), Set.of(graph.getVertex(3)));
     }
+
+    @Test
+    public void findScc_WhenLongCycle_ThenSingleComponent()
+    {
+        // given
+        int verticesCount = 200000;
+        DirectedSimpleGraph<Integer, Void, Void> graph = new DirectedSimpleGraph<>(
+                IntStream.range(0, verticesCount).boxed().collect(Collectors.toList()));
+
+        for(int i = 0; i < verticesCount; ++i)
+            graph.addEdgeBetween(graph.getVertex(i), graph.getVertex((i + 1) % verticesCount));
+
+        // when
+        List<Set<Vertex<Integer>>> result = StronglyConnectedComponents.findScc(graph);
+
+        // then
+        Assertions.assertThat(result).hasSize(1);
+        Assertions.assertThat(result.get(0)).hasSize(verticesCount);
+    }
+
+    @Test
+    public void findSccIndices_ThenEdgesLeadToGreaterComponents()
+    {
+        // given
+        CompactDirectedGraph<Integer, Void, Void> graph =
+                new CompactDirectedGraph<>(manyComponentsGraph());
+
+        // when
+        int[] result = StronglyConnectedComponents.findSccIndices(graph);
+
+        // then
+        Assertions.assertThat(IntStream.of(result).distinct().count()).isEqualTo(4);
+        Assertions.assertThat(result[graph.indexOf(graph.getVertex(0))])
+                  .isEqualTo(result[graph.indexOf(graph.getVertex(3))]);
+        Assertions.assertThat(result[graph.indexOf(graph.getVertex(6))])
+                  .isEqualTo(result[graph.indexOf(graph.getVertex(9))]);
+
+        for(int vertex = 0; vertex < graph.getVerticesCount(); ++vertex)
+        {
+            int source = vertex;
+
+            graph.forEachNeighbour(vertex,
+                    neighbour -> Assertions.assertThat(result[neighbour])
+                                           .isGreaterThanOrEqualTo(result[source]));
+        }
+    }
+
+    @Test
+    public void condensation_ThenAcyclicGraphOfComponents()
+    {
+        // given
+        DirectedSimpleGraph<Integer, Void, Void> graph = manyComponentsGraph();
+
+        // when
+        DirectedSimpleGraph<Integer, Set<Vertex<Integer>>, Void> result =
+                StronglyConnectedComponents.condensation(graph);
+
+        // then
+        Assertions.assertThat(result.getVerticesCount()).isEqualTo(4);
+        Assertions.assertThat(result.getEdgesCount()).isEqualTo(4);
+        Assertions.assertThat(result.getVertices()
+                                    .stream()
+                                    .map(vertex -> result.getProperties().get(vertex))
+                                    .toList())
+                  .containsExactlyInAnyOrderElementsOf(StronglyConnectedComponents.findScc(graph));
+
+        for(Edge<Integer> edge : result.getEdges())
+            Assertions.assertThat(edge.source().id()).isLessThan(edge.destination().id());
+    }
+
+    @Test
+    public void parallelFindScc_WhenManyComponents_ThenAllListed()
+    {
+        // given
+        DirectedSimpleGraph<Integer, Void, Void> graph = manyComponentsGraph();
+
+        // when
+        List<Set<Vertex<Integer>>> result = StronglyConnectedComponents.parallelFindScc(graph);
+
+        // then
+        Assertions.assertThat(result)
+                  .containsExactlyInAnyOrder(
+                          Set.of(graph.getVertex(0), graph.getVertex(1), graph.getVertex(3),
+                                  graph.getVertex(4)), Set.of(graph.getVertex(2)),
+                          Set.of(graph.getVertex(5)),
+                          Set.of(graph.getVertex(6), graph.getVertex(7), graph.getVertex(8),
+                                  graph.getVertex(9)));
+    }
+
+    @Test
+    public void parallelFindScc_WhenLargeGraph_ThenSameAsSequential()
+    {
+        // given
+        int verticesCount = 3000;
+        DirectedSimpleGraph<Integer, Void, Void> graph = new DirectedSimpleGraph<>(
+                IntStream.range(0, verticesCount).boxed().collect(Collectors.toList()));
+
+        for(int i = 0; i < verticesCount; ++i)
+        {
+            graph.addEdgeBetween(graph.getVertex(i), graph.getVertex(i * 7 % verticesCount));
+
+            if(i % 5 != 0)
+                graph.addEdgeBetween(graph.getVertex(i),
+                        graph.getVertex((i * 13 + 1) % verticesCount));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        // when
+        List<Set<Vertex<Integer>>> result = StronglyConnectedComponents.parallelFindScc(graph, pool);
+
+        // then
+        pool.shutdown();
+        Assertions.assertThat(result)
+                  .containsExactlyInAnyOrderElementsOf(StronglyConnectedComponents.findScc(graph));
+    }
+
+    private static DirectedSimpleGraph<Integer, Void, Void> manyComponentsGraph()
+    {
+        DirectedSimpleGraph<Integer, Void, Void> graph = new DirectedSimpleGraph<>(
+                IntStream.range(0, 10).boxed().collect(Collectors.toList()));
+
+        graph.addEdgeBetween(graph.getVertex(0), graph.getVertex(4));
+        graph.addEdgeBetween(graph.getVertex(0), graph.getVertex(5));
+        graph.addEdgeBetween(graph.getVertex(1), graph.getVertex(0));
+        graph.addEdgeBetween(graph.getVertex(2), graph.getVertex(3));
+        graph.addEdgeBetween(graph.getVertex(3), graph.getVertex(1));
+        graph.addEdgeBetween(graph.getVertex(4), graph.getVertex(1));
+        graph.addEdgeBetween(graph.getVertex(4), graph.getVertex(3));
+        graph.addEdgeBetween(graph.getVertex(6), graph.getVertex(5));
+        graph.addEdgeBetween(graph.getVertex(6), graph.getVertex(9));
+        graph.addEdgeBetween(graph.getVertex(7), graph.getVertex(4));
+        graph.addEdgeBetween(graph.getVertex(7), graph.getVertex(6));
+        graph.addEdgeBetween(graph.getVertex(8), graph.getVertex(3));
+        graph.addEdgeBetween(graph.getVertex(8), graph.getVertex(7));
+        graph.addEdgeBetween(graph.getVertex(9), graph.getVertex(8));
+        return graph;
+    }
 }
@@ -5,8 +5,10 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import com.github.refhumbold.algolib.graphs.CompactDirectedGraph;
 import com.github.refhumbold.algolib.graphs.DirectedGraph;
 import com.github.refhumbold.algolib.graphs.DirectedSimpleGraph;
+import com.github.refhumbold.algolib.graphs.IntGraph;
 import com.github.refhumbold.algolib.graphs.Vertex;
 
 // Tests: Algorithms for topological sorting of a graph.
@@ -79,6 +81,56 @@ public class TopologicalSortingTest
         Assertions.assertThat(result).isEqualTo(graph.getVertices());
     }
 
+    @Test
+    public void inputsTopologicalSort_WhenCompactAcyclicGraph_ThenTopologicalOrder()
+    {
+        // given
+        DirectedSimpleGraph<Integer, Void, Void> simpleGraph = new DirectedSimpleGraph<>(
+                IntStream.range(0, 6).boxed().collect(Collectors.toList()));
+
+        simpleGraph.addEdgeBetween(simpleGraph.getVertex(0), simpleGraph.getVertex(2));
+        simpleGraph.addEdgeBetween(simpleGraph.getVertex(0), simpleGraph.getVertex(4));
+        simpleGraph.addEdgeBetween(simpleGraph.getVertex(1), simpleGraph.getVertex(0));
+        simpleGraph.addEdgeBetween(simpleGraph.getVertex(1), simpleGraph.getVertex(4));
+        simpleGraph.addEdgeBetween(simpleGraph.getVertex(3), simpleGraph.getVertex(1));
+        simpleGraph.addEdgeBetween(simpleGraph.getVertex(3), simpleGraph.getVertex(0));
+        simpleGraph.addEdgeBetween(simpleGraph.getVertex(3), simpleGraph.getVertex(2));
+        simpleGraph.addEdgeBetween(simpleGraph.getVertex(5), simpleGraph.getVertex(1));
+        simpleGraph.addEdgeBetween(simpleGraph.getVertex(5), simpleGraph.getVertex(2));
+        simpleGraph.addEdgeBetween(simpleGraph.getVertex(5), simpleGraph.getVertex(4));
+
+        CompactDirectedGraph<Integer, Void, Void> graph = new CompactDirectedGraph<>(simpleGraph);
+
+        // when
+        int[] result = TopologicalSorting.inputsTopologicalSort((IntGraph)graph);
+
+        // then
+        Assertions.assertThat(result).hasSize(6);
+        graph.getEdges()
+             .forEach(edge -> Assertions.assertThat(
+                     indexIn(result, graph.indexOf(edge.source()))).isLessThan(
+                     indexIn(result, graph.indexOf(edge.destination()))));
+    }
+
+    @Test
+    public void inputsTopologicalSort_WhenCompactCyclicGraph_ThenDirectedCyclicGraphException()
+    {
+        // given
+        DirectedSimpleGraph<Integer, Void, Void> simpleGraph = new DirectedSimpleGraph<>(
+                IntStream.range(0, 6).boxed().collect(Collectors.toList()));
+
+        simpleGraph.addEdgeBetween(simpleGraph.getVertex(0), simpleGraph.getVertex(2));
+        simpleGraph.addEdgeBetween(simpleGraph.getVertex(1), simpleGraph.getVertex(0));
+        simpleGraph.addEdgeBetween(simpleGraph.getVertex(2), simpleGraph.getVertex(1));
+        simpleGraph.addEdgeBetween(simpleGraph.getVertex(3), simpleGraph.getVertex(4));
+
+        IntGraph graph = new CompactDirectedGraph<>(simpleGraph);
+
+        // then
+        Assertions.assertThatThrownBy(() -> TopologicalSorting.inputsTopologicalSort(graph))
+                  .isInstanceOf(DirectedCyclicGraphException.class);
+    }
+
     // endregion
     // region dfsTopologicalSort
 
@@ -153,5 +205,64 @@ public class TopologicalSortingTest
         Assertions.assertThat(result).isEqualTo(graph.getVertices());
     }
 
+    @Test
+    public void dfsTopologicalSort_WhenCompactAcyclicGraph_ThenTopologicalOrder()
+    {
+        // given
+        DirectedSimpleGraph<Integer, Void, Void> simpleGraph = new DirectedSimpleGraph<>(
+                IntStream.range(0, 6).boxed().collect(Collectors.toList()));
+
+        simpleGraph.addEdgeBetween(simpleGraph.getVertex(0), simpleGraph.getVertex(2));
+        simpleGraph.addEdgeBetween(simpleGraph.getVertex(0), simpleGraph.getVertex(4));
+        simpleGraph.addEdgeBetween(simpleGraph.getVertex(1), simpleGraph.getVertex(0));
+        simpleGraph.addEdgeBetween(simpleGraph.getVertex(1), simpleGraph.getVertex(4));
+        simpleGraph.addEdgeBetween(simpleGraph.getVertex(3), simpleGraph.getVertex(1));
+        simpleGraph.addEdgeBetween(simpleGraph.getVertex(3), simpleGraph.getVertex(0));
+        simpleGraph.addEdgeBetween(simpleGraph.getVertex(3), simpleGraph.getVertex(2));
+        simpleGraph.addEdgeBetween(simpleGraph.getVertex(5), simpleGraph.getVertex(1));
+        simpleGraph.addEdgeBetween(simpleGraph.getVertex(5), simpleGraph.getVertex(2));
+        simpleGraph.addEdgeBetween(simpleGraph.getVertex(5), simpleGraph.getVertex(4));
+
+        CompactDirectedGraph<Integer, Void, Void> graph = new CompactDirectedGraph<>(simpleGraph);
+
+        // when
+        int[] result = TopologicalSorting.dfsTopologicalSort((IntGraph)graph);
+
+        // then
+        Assertions.assertThat(result).hasSize(6);
+        graph.getEdges()
+             .forEach(edge -> Assertions.assertThat(
+                     indexIn(result, graph.indexOf(edge.source()))).isLessThan(
+                     indexIn(result, graph.indexOf(edge.destination()))));
+    }
+
+    @Test
+    public void dfsTopologicalSort_WhenCompactCyclicGraph_ThenDirectedCyclicGraphException()
+    {
+        // given
+        DirectedSimpleGraph<Integer, Void, Void> simpleGraph = new DirectedSimpleGraph<>(
+                IntStream.range(0, 6).boxed().collect(Collectors.toList()));
+
+        simpleGraph.addEdgeBetween(simpleGraph.getVertex(0), simpleGraph.getVertex(2));
+        simpleGraph.addEdgeBetween(simpleGraph.getVertex(1), simpleGraph.getVertex(0));
+        simpleGraph.addEdgeBetween(simpleGraph.getVertex(2), simpleGraph.getVertex(1));
+        simpleGraph.addEdgeBetween(simpleGraph.getVertex(3), simpleGraph.getVertex(4));
+
+        IntGraph graph = new CompactDirectedGraph<>(simpleGraph);
+
+        // then
+        Assertions.assertThatThrownBy(() -> TopologicalSorting.dfsTopologicalSort(graph))
+                  .isInstanceOf(DirectedCyclicGraphException.class);
+    }
+
     // endregion
+
+    private static int indexIn(int[] order, int vertex)
+    {
+        for(int i = 0; i < order.length; ++i)
+            if(order[i] == vertex)
+                return i;
+
+        return -1;
+    }
 }
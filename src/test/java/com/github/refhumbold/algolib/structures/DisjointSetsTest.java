@@ -284,6 +284,26 @@ public class DisjointSetsTest
                   .isInstanceOf(NoSuchElementException.class);
     }
 
+    @Test
+    public void findSet_WhenLongChainOfUnions_ThenRepresentOfLastElement()
+    {
+        // given
+        int elementsCount = 200000;
+
+        testObject = new DisjointSets<>(
+                IntStream.range(0, elementsCount).mapToObj(List::of).toList());
+
+        for(int i = 1; i < elementsCount; ++i)
+            testObject.unionSet(i - 1, i);
+
+        // when
+        int result = testObject.findSet(0);
+
+        // then
+        Assertions.assertThat(result).isEqualTo(elementsCount - 1);
+        Assertions.assertThat(testObject.findSet(elementsCount / 2)).isEqualTo(result);
+    }
+
     @Test
     public void findSet_WhenSameSet_ThenSameRepresent()
     {
@@ -0,0 +1,156 @@
+package com.github.refhumbold.algolib.structures.heaps;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+// Tests: Structure of d-ary heap of integer keys with double priorities.
+public class IndexedHeapTest
+{
+    private final double[] priorities = {10.0, 6.0, 14.0, 97.0, 24.0, 37.0, 2.0, 30.0, 45.0, 18.0};
+    private IndexedHeap testObject;
+
+    @BeforeEach
+    public void setUp()
+    {
+        testObject = new IndexedHeap(12);
+
+        for(int i = 0; i < priorities.length; ++i)
+            testObject.add(i, priorities[i]);
+    }
+
+    @Test
+    public void constructor_WhenArityLessThanTwo_ThenIllegalArgumentException()
+    {
+        // then
+        Assertions.assertThatThrownBy(() -> new IndexedHeap(10, 1))
+                  .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void isEmpty_WhenEmpty_ThenTrue()
+    {
+        // given
+        testObject = new IndexedHeap(5);
+
+        // when
+        boolean result = testObject.isEmpty();
+
+        // then
+        Assertions.assertThat(result).isTrue();
+    }
+
+    @Test
+    public void size_WhenNotEmpty_ThenNumberOfKeys()
+    {
+        // when
+        int result = testObject.size();
+
+        // then
+        Assertions.assertThat(result).isEqualTo(priorities.length);
+    }
+
+    @Test
+    public void clear_WhenNotEmpty_ThenEmptyAndKeysCanBeAddedAgain()
+    {
+        // when
+        testObject.clear();
+
+        // then
+        Assertions.assertThat(testObject.isEmpty()).isTrue();
+        Assertions.assertThat(testObject.contains(3)).isFalse();
+
+        testObject.add(3, 1.0);
+        Assertions.assertThat(testObject.element()).isEqualTo(3);
+    }
+
+    @Test
+    public void contains_ThenWhetherKeyPresent()
+    {
+        // then
+        Assertions.assertThat(testObject.contains(4)).isTrue();
+        Assertions.assertThat(testObject.contains(11)).isFalse();
+    }
+
+    @Test
+    public void getPriority_WhenMissingKey_ThenNoSuchElementException()
+    {
+        // then
+        Assertions.assertThatThrownBy(() -> testObject.getPriority(11))
+                  .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    public void element_WhenEmpty_ThenNoSuchElementException()
+    {
+        // given
+        testObject = new IndexedHeap(5);
+
+        // then
+        Assertions.assertThatThrownBy(() -> testObject.element())
+                  .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    public void element_WhenNotEmpty_ThenKeyWithMinimalPriority()
+    {
+        // when
+        int result = testObject.element();
+
+        // then
+        Assertions.assertThat(result).isEqualTo(6);
+    }
+
+    @Test
+    public void add_WhenKeyPresent_ThenIllegalArgumentException()
+    {
+        // then
+        Assertions.assertThatThrownBy(() -> testObject.add(2, 1.0))
+                  .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void remove_WhenMultipleCalls_ThenKeysSortedByPriority()
+    {
+        // given
+        List<Integer> result = new ArrayList<>();
+
+        // when
+        while(!testObject.isEmpty())
+            result.add(testObject.remove());
+
+        // then
+        Assertions.assertThat(result).containsExactly(6, 1, 0, 2, 9, 4, 7, 5, 8, 3);
+    }
+
+    @Test
+    public void decreaseKey_WhenLowerPriority_ThenKeyMovedUp()
+    {
+        // when
+        testObject.decreaseKey(3, 1.0);
+
+        // then
+        Assertions.assertThat(testObject.getPriority(3)).isEqualTo(1.0);
+        Assertions.assertThat(testObject.remove()).isEqualTo(3);
+        Assertions.assertThat(testObject.remove()).isEqualTo(6);
+    }
+
+    @Test
+    public void decreaseKey_WhenHigherPriority_ThenIllegalArgumentException()
+    {
+        // then
+        Assertions.assertThatThrownBy(() -> testObject.decreaseKey(6, 50.0))
+                  .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void decreaseKey_WhenMissingKey_ThenNoSuchElementException()
+    {
+        // then
+        Assertions.assertThatThrownBy(() -> testObject.decreaseKey(11, 1.0))
+                  .isInstanceOf(NoSuchElementException.class);
+    }
+}